@@ -0,0 +1,81 @@
+package il.org.spartan.external.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import il.org.spartan.external.External.Introspector;
+
+/** Latency of the first invocation in a fresh JVM, which includes loading
+ * classes and discovering the option schema of the target. Every fork
+ * measures a single invocation, without any warmup; the command lines are
+ * spelled out, so that nothing but instantiating the target touches its class
+ * before the measured invocation.
+ * @since 2026-10-16 */
+@State(Scope.Thread) //
+@BenchmarkMode(Mode.SingleShotTime) //
+@OutputTimeUnit(TimeUnit.MICROSECONDS) //
+@Warmup(iterations = 0) //
+@Measurement(iterations = 1, batchSize = 1) //
+@Fork(20) //
+public class ColdStartBenchmark {
+  @Param({ "SMALL", "MEDIUM", "LARGE", "DEEP" }) public Targets.Shape shape;
+  private Object target;
+  private String[] arguments;
+
+  @Setup public void setup() {
+    target = shape.target();
+    arguments = arguments(shape);
+  }
+
+  /** @return a command line which sets every option of a shape, followed by
+   *         ten residual arguments; unlike {@link Targets#arguments(Object, int)},
+   *         it is made without reflecting over, and hence warming, the class
+   *         of the target */
+  private static String[] arguments(final Targets.Shape ¢) {
+    final List<String> $ = new ArrayList<>();
+    switch (¢) {
+      case SMALL:
+        Collections.addAll($, "-port", "17", "-host", "text");
+        break;
+      case MEDIUM:
+        Collections.addAll($, "-port", "17", "-host", "text", "-verbose", "-timeout", "17", "-ratio", "2.5", "-color", "GREEN", "-input",
+            "/tmp/file", "-output", "/tmp/file", "-sizes", "1,2,3,4", "-tags", "a,b,c");
+        break;
+      case LARGE:
+        for (int i = 0; i < 10; ++i)
+          Collections.addAll($, "-i0" + i, "17", "-l0" + i, "17", "-s0" + i, "text", "-c0" + i, "GREEN");
+        break;
+      case DEEP:
+        for (int i = 0; i < 16; ++i)
+          Collections.addAll($, "-d" + (i < 10 ? "0" : "") + i, "17");
+        break;
+      default:
+        throw new IllegalArgumentException(¢ + "");
+    }
+    for (int i = 0; i < 10; ++i)
+      $.add("file" + i);
+    return $.toArray(new String[$.size()]);
+  }
+
+  @Benchmark public List<String> firstExtract() {
+    return Introspector.extract(arguments, target);
+  }
+
+  @Benchmark public String firstUsage() {
+    return Introspector.usage(target);
+  }
+}
@@ -0,0 +1,105 @@
+package il.org.spartan.external.benchmarks;
+
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import il.org.spartan.external.External;
+import il.org.spartan.external.External.Introspector;
+
+/** Cost of converting values: multi-valued options with large delimited
+ * values, and single values converted through an <code><b>enum</b></code> or
+ * a <code>(String)</code> constructor.
+ * @since 2026-10-16 */
+@BenchmarkMode(Mode.Throughput) //
+@OutputTimeUnit(TimeUnit.SECONDS) //
+@Warmup(iterations = 5, time = 1) //
+@Measurement(iterations = 5, time = 1) //
+@Fork(1) //
+public class ConversionBenchmark {
+  public static class Multiple {
+    @External int[] ints;
+    @External Integer[] integers;
+    @External String[] strings;
+    @External List<Integer> list;
+    @External IntStream stream;
+  }
+
+  public static class Single {
+    @External Targets.Color color;
+    @External File file;
+  }
+
+  /** A delimited value of a given number of elements */
+  @State(Scope.Thread) public static class Delimited {
+    @Param({ "10", "1000", "100000" }) public int size;
+    final Multiple target = new Multiple();
+    String[] ints, integers, strings, list, stream;
+
+    @Setup public void setup() {
+      final StringBuilder b = new StringBuilder();
+      for (int ¢ = 0; ¢ < size; ++¢)
+        b.append(¢ == 0 ? "" : ",").append(¢ * 7919 % 100003);
+      ints = new String[] { "-ints", b + "" };
+      integers = new String[] { "-integers", b + "" };
+      strings = new String[] { "-strings", b + "" };
+      list = new String[] { "-list", b + "" };
+      stream = new String[] { "-stream", b + "" };
+    }
+  }
+
+  @State(Scope.Thread) public static class Scalars {
+    final Single target = new Single();
+    final String[] color = { "-color", "BLUE" };
+    final String[] file = { "-file", "/tmp/file" };
+  }
+
+  @Benchmark public int[] intArray(final Delimited ¢) {
+    Introspector.extract(¢.ints, ¢.target);
+    return ¢.target.ints;
+  }
+
+  @Benchmark public Integer[] integerArray(final Delimited ¢) {
+    Introspector.extract(¢.integers, ¢.target);
+    return ¢.target.integers;
+  }
+
+  @Benchmark public String[] stringArray(final Delimited ¢) {
+    Introspector.extract(¢.strings, ¢.target);
+    return ¢.target.strings;
+  }
+
+  @Benchmark public List<Integer> integerList(final Delimited ¢) {
+    Introspector.extract(¢.list, ¢.target);
+    return ¢.target.list;
+  }
+
+  /** Parsing of the stream is lazy, so it is consumed here */
+  @Benchmark public int intStream(final Delimited ¢) {
+    Introspector.extract(¢.stream, ¢.target);
+    return ¢.target.stream.sum();
+  }
+
+  @Benchmark public Object enumValue(final Scalars ¢) {
+    Introspector.extract(¢.color, ¢.target);
+    return ¢.target.color;
+  }
+
+  @Benchmark public Object stringConstructor(final Scalars ¢) {
+    Introspector.extract(¢.file, ¢.target);
+    return ¢.target.file;
+  }
+}
@@ -0,0 +1,54 @@
+package il.org.spartan.external.benchmarks;
+
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import il.org.spartan.external.External.Introspector;
+
+/** Cost of reporting the options of a target: usage text, settings text, and
+ * export into a map or into properties.
+ * @since 2026-10-16 */
+@State(Scope.Thread) //
+@BenchmarkMode(Mode.Throughput) //
+@OutputTimeUnit(TimeUnit.SECONDS) //
+@Warmup(iterations = 5, time = 1) //
+@Measurement(iterations = 5, time = 1) //
+@Fork(1) //
+public class ExportBenchmark {
+  @Param({ "SMALL", "MEDIUM", "LARGE", "DEEP" }) public Targets.Shape shape;
+  private Object target;
+
+  @Setup public void setup() {
+    target = shape.target();
+    Introspector.extract(Targets.arguments(target, 0), target);
+  }
+
+  @Benchmark public String usage() {
+    return Introspector.usage(target);
+  }
+
+  @Benchmark public String settings() {
+    return Introspector.settings(target);
+  }
+
+  @Benchmark public Map<String, String> toOrderedMap() {
+    return Introspector.toOrderedMap(target);
+  }
+
+  @Benchmark public Properties toProperties() {
+    return Introspector.toProperties(target);
+  }
+}
@@ -0,0 +1,74 @@
+package il.org.spartan.external.benchmarks;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import il.org.spartan.external.External.Introspector;
+
+/** Steady state cost of extracting command lines, and properties, by the
+ * number of options of the target (including options inherited along a deep
+ * class hierarchy) and by the number of residual arguments.
+ * @since 2026-10-16 */
+@State(Scope.Thread) //
+@BenchmarkMode(Mode.Throughput) //
+@OutputTimeUnit(TimeUnit.SECONDS) //
+@Warmup(iterations = 5, time = 1) //
+@Measurement(iterations = 5, time = 1) //
+@Fork(1) //
+public class ExtractBenchmark {
+  @Param({ "SMALL", "MEDIUM", "LARGE", "DEEP" }) public Targets.Shape shape;
+  @Param({ "0", "100", "10000" }) public int residue;
+  private Object target;
+  private String[] arguments;
+  private List<String> list;
+  private Properties properties;
+  private String text;
+
+  @Setup public void setup() throws IOException {
+    target = shape.target();
+    arguments = Targets.arguments(target, residue);
+    list = Arrays.asList(arguments);
+    properties = Targets.properties(target);
+    final StringWriter w = new StringWriter();
+    properties.store(w, null);
+    text = w + "";
+  }
+
+  @Benchmark public List<String> extractArray() {
+    return Introspector.extract(arguments, target);
+  }
+
+  /** The list is consumed by extraction, so each invocation copies it; the
+   * copy is part of the measured cost */
+  @Benchmark public List<String> extractList() {
+    return Introspector.extract(new ArrayList<>(list), target);
+  }
+
+  @Benchmark public Object extractProperties() {
+    Introspector.extract(properties, target);
+    return target;
+  }
+
+  @Benchmark public Object extractReader() throws IOException {
+    Introspector.extract(new StringReader(text), target);
+    return target;
+  }
+}
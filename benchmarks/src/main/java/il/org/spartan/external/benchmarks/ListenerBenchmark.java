@@ -0,0 +1,77 @@
+package il.org.spartan.external.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import il.org.spartan.external.External.Introspector;
+import il.org.spartan.external.ParseListener;
+import il.org.spartan.external.jfr.FlightRecorder;
+
+/** Overhead of instrumenting extractions: with no listener, with a listener
+ * which ignores what it is told, and with the {@link FlightRecorder} listener
+ * (whose events are committed only if a recording is in progress).
+ * @since 2026-10-16 */
+@State(Scope.Thread) //
+@BenchmarkMode(Mode.Throughput) //
+@OutputTimeUnit(TimeUnit.SECONDS) //
+@Warmup(iterations = 5, time = 1) //
+@Measurement(iterations = 5, time = 1) //
+@Fork(1) //
+public class ListenerBenchmark {
+  public enum Listening {
+    NONE {
+      @Override ParseListener listener() {
+        return null;
+      }
+    },
+    IGNORING {
+      @Override ParseListener listener() {
+        return λ -> {
+          // Ignore statistics
+        };
+      }
+    },
+    FLIGHT_RECORDER {
+      @Override ParseListener listener() {
+        return new FlightRecorder();
+      }
+    };
+    abstract ParseListener listener();
+  }
+
+  @Param({ "NONE", "IGNORING", "FLIGHT_RECORDER" }) public Listening listening;
+  @Param({ "SMALL", "MEDIUM" }) public Targets.Shape shape;
+  private ParseListener listener;
+  private Object target;
+  private String[] arguments;
+
+  @Setup public void setup() {
+    target = shape.target();
+    arguments = Targets.arguments(target, 10);
+    listener = listening.listener();
+    if (listener != null)
+      Introspector.addListener(listener);
+  }
+
+  @TearDown public void tearDown() {
+    if (listener != null)
+      Introspector.removeListener(listener);
+  }
+
+  @Benchmark public List<String> extract() {
+    return Introspector.extract(arguments, target);
+  }
+}
@@ -0,0 +1,33 @@
+package il.org.spartan.external.benchmarks;
+
+import java.io.IOException;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/** Runs the benchmarks, as JMH's own main class does, accepting the same
+ * command line options, except that the allocation rate is always reported,
+ * by the <code>gc</code> profiler.
+ * @since 2026-10-16 */
+public final class Main {
+  private Main() {
+    // Cannot be instantiated
+  }
+
+  public static void main(final String[] args) throws CommandLineOptionException, IOException, RunnerException {
+    final CommandLineOptions $ = new CommandLineOptions(args);
+    if ($.shouldHelp()) {
+      $.showHelp();
+      return;
+    }
+    final Runner r = new Runner(new OptionsBuilder().parent($).addProfiler(GCProfiler.class).build());
+    if ($.shouldList())
+      r.list();
+    else
+      r.run();
+  }
+}
@@ -0,0 +1,69 @@
+package il.org.spartan.external.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import il.org.spartan.external.Parser;
+
+/** Scaling of {@link Parser#parseAll(List, ForkJoinPool)} with the number of
+ * threads, against parsing the same batch sequentially. The batch and the
+ * pool are separate states, so that the sequential benchmark, which uses no
+ * pool, is not repeated for every number of threads.
+ * @since 2026-10-16 */
+@BenchmarkMode(Mode.Throughput) //
+@OutputTimeUnit(TimeUnit.SECONDS) //
+@Warmup(iterations = 5, time = 1) //
+@Measurement(iterations = 5, time = 1) //
+@Fork(1) //
+public class ParserBenchmark {
+  @State(Scope.Benchmark) public static class Batch {
+    @Param({ "10000" }) public int batch;
+    final Parser<Targets.Medium> parser = Parser.of(Targets.Medium.class);
+    final List<String[]> argss = new ArrayList<>();
+
+    @Setup(Level.Trial) public void setup() {
+      for (int ¢ = 0; ¢ < batch; ++¢)
+        argss.add(Targets.arguments(new Targets.Medium(), ¢ % 10));
+    }
+  }
+
+  @State(Scope.Benchmark) public static class Pool {
+    @Param({ "1", "2", "4", "8" }) public int threads;
+    ForkJoinPool pool;
+
+    @Setup(Level.Trial) public void setup() {
+      pool = new ForkJoinPool(threads);
+    }
+
+    @TearDown(Level.Trial) public void tearDown() {
+      pool.shutdown();
+    }
+  }
+
+  @Benchmark public List<Parser.Result<Targets.Medium>> parseAll(final Batch b, final Pool p) {
+    return b.parser.parseAll(b.argss, p.pool);
+  }
+
+  @Benchmark public List<Parser.Result<Targets.Medium>> sequential(final Batch b) {
+    final List<Parser.Result<Targets.Medium>> $ = new ArrayList<>(b.argss.size());
+    for (final String[] ¢ : b.argss)
+      $.add(b.parser.tryParse(¢));
+    return $;
+  }
+}
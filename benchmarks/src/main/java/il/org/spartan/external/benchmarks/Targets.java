@@ -0,0 +1,179 @@
+package il.org.spartan.external.benchmarks;
+
+import java.io.File;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.function.Supplier;
+
+import il.org.spartan.external.External;
+
+/** Classes into which the benchmarks extract options, and the command lines
+ * which set every option of these.
+ * @since 2026-10-16 */
+public final class Targets {
+  private Targets() {
+    // Cannot be instantiated
+  }
+
+  public enum Color {
+    RED, GREEN, BLUE
+  }
+
+  /** The shapes of targets, by increasing number of options */
+  public enum Shape {
+    /** Two options */
+    SMALL(Small::new),
+    /** Ten options of assorted types */
+    MEDIUM(Medium::new),
+    /** Forty options */
+    LARGE(Large::new),
+    /** Sixteen options, one at each level of a class hierarchy */
+    DEEP(Level15::new);
+    private final Supplier<Object> factory;
+
+    Shape(final Supplier<Object> factory) {
+      this.factory = factory;
+    }
+
+    public Object target() {
+      return factory.get();
+    }
+  }
+
+  public static class Small {
+    @External int port;
+    @External String host;
+    @External.Residue String[] rest;
+  }
+
+  public static class Medium {
+    @External int port;
+    @External String host;
+    @External boolean verbose;
+    @External long timeout;
+    @External double ratio;
+    @External Color color;
+    @External File input;
+    @External(alias = "o") File output;
+    @External int[] sizes;
+    @External String[] tags;
+    @External.Residue String[] rest;
+  }
+
+  public static class Large {
+    @External int i00, i01, i02, i03, i04, i05, i06, i07, i08, i09;
+    @External long l00, l01, l02, l03, l04, l05, l06, l07, l08, l09;
+    @External String s00, s01, s02, s03, s04, s05, s06, s07, s08, s09;
+    @External Color c00, c01, c02, c03, c04, c05, c06, c07, c08, c09;
+    @External.Residue String[] rest;
+  }
+
+  public static class Level0 {
+    @External int d00;
+    @External.Residue String[] rest;
+  }
+
+  public static class Level1 extends Level0 {
+    @External int d01;
+  }
+
+  public static class Level2 extends Level1 {
+    @External int d02;
+  }
+
+  public static class Level3 extends Level2 {
+    @External int d03;
+  }
+
+  public static class Level4 extends Level3 {
+    @External int d04;
+  }
+
+  public static class Level5 extends Level4 {
+    @External int d05;
+  }
+
+  public static class Level6 extends Level5 {
+    @External int d06;
+  }
+
+  public static class Level7 extends Level6 {
+    @External int d07;
+  }
+
+  public static class Level8 extends Level7 {
+    @External int d08;
+  }
+
+  public static class Level9 extends Level8 {
+    @External int d09;
+  }
+
+  public static class Level10 extends Level9 {
+    @External int d10;
+  }
+
+  public static class Level11 extends Level10 {
+    @External int d11;
+  }
+
+  public static class Level12 extends Level11 {
+    @External int d12;
+  }
+
+  public static class Level13 extends Level12 {
+    @External int d13;
+  }
+
+  public static class Level14 extends Level13 {
+    @External int d14;
+  }
+
+  public static class Level15 extends Level14 {
+    @External int d15;
+  }
+
+  /** @param target an instance of one of the shapes
+   * @param residue number of residual arguments to append
+   * @return a command line which sets every option of the target, followed by
+   *         residual arguments */
+  public static String[] arguments(final Object target, final int residue) {
+    final List<String> $ = new ArrayList<>();
+    for (Class<?> c = target.getClass(); c != Object.class; c = c.getSuperclass())
+      for (final Field f : c.getDeclaredFields()) {
+        final External x = f.getAnnotation(External.class);
+        if (x == null)
+          continue;
+        $.add("-" + (x.name().isEmpty() ? f.getName() : x.name()));
+        if (f.getType() != boolean.class)
+          $.add(value(f.getType()));
+      }
+    for (int ¢ = 0; ¢ < residue; ++¢)
+      $.add("file" + ¢);
+    return $.toArray(new String[$.size()]);
+  }
+
+  /** @return the options which {@link #arguments(Object, int)} would set, as
+   *         properties */
+  public static Properties properties(final Object target) {
+    final Properties $ = new Properties();
+    final String[] ss = arguments(target, 0);
+    for (int ¢ = 0; ¢ < ss.length; ++¢)
+      $.put(ss[¢].substring(1), ¢ + 1 < ss.length && !ss[¢ + 1].startsWith("-") ? ss[++¢] : "true");
+    return $;
+  }
+
+  private static String value(final Class<?> ¢) {
+    if (¢ == int.class || ¢ == long.class)
+      return "17";
+    if (¢ == double.class)
+      return "2.5";
+    if (¢ == Color.class)
+      return Color.GREEN + "";
+    if (¢ == File.class)
+      return "/tmp/file";
+    return ¢ == int[].class ? "1,2,3,4" : ¢ == String[].class ? "a,b,c" : "text";
+  }
+}
@@ -0,0 +1,134 @@
+package il.org.spartan.external.jfr;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import il.org.spartan.external.External.Introspector;
+import il.org.spartan.external.ParseListener;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/** A {@link ParseListener} which commits JDK Flight Recorder events: an
+ * <code>il.org.spartan.external.Extraction</code> event for every extraction,
+ * which lasts as long as the extraction, and an
+ * <code>il.org.spartan.external.ExtractionError</code> event for every error
+ * found, which lasts from the beginning of the extraction, or from the
+ * previous error it found, until the error was found. Events are committed
+ * only while a recording which enables them is in progress, e.g., one started
+ * by <code>java -XX:StartFlightRecording</code>.
+ * <p>
+ * This class is kept apart from the <code>cli</code> module, which targets
+ * Java 8, since it depends on the <code>jdk.jfr</code> module.
+ * @since 2026-10-16 */
+public final class FlightRecorder implements ParseListener {
+  /** Install a new instance
+   * @return the installed instance, to be uninstalled by
+   *         {@link Introspector#removeListener(ParseListener)} */
+  @NotNull public static FlightRecorder install() {
+    @NotNull final FlightRecorder $ = new FlightRecorder();
+    Introspector.addListener($);
+    return $;
+  }
+
+  /** The events of the extraction in progress in each thread */
+  @NotNull private final ThreadLocal<Extraction> current = new ThreadLocal<>();
+
+  @Override public void started() {
+    current.set(new Extraction(current.get()));
+  }
+
+  @Override public void failed(@NotNull final Failure ¢) {
+    @Nullable final Extraction x = current.get();
+    if (x == null)
+      return;
+    @NotNull final ErrorEvent $ = x.error;
+    x.error = begun(new ErrorEvent());
+    $.end();
+    if (!$.shouldCommit())
+      return;
+    $.target = ¢.target == null ? null : ¢.target instanceof Class ? (Class<?>) ¢.target : ¢.target.getClass();
+    $.option = ¢.option;
+    $.error = ¢.error.getClass().getSimpleName();
+    $.message = ¢.error.getMessage();
+    $.commit();
+  }
+
+  @Override public void extracted(@NotNull final Statistics ¢) {
+    @Nullable final Extraction x = current.get();
+    if (x == null)
+      return;
+    if (x.outer == null)
+      current.remove();
+    else
+      current.set(x.outer);
+    @NotNull final ExtractionEvent $ = x.event;
+    $.end();
+    if (!$.shouldCommit())
+      return;
+    $.target = ¢.targets.isEmpty() ? null : ¢.targets.get(0);
+    $.targets = ¢.targets.size();
+    $.matched = ¢.matched;
+    $.converted = ¢.converted;
+    $.errors = ¢.errors;
+    $.lookups = ¢.lookups;
+    $.discovery = ¢.nanos(Phase.DISCOVERY);
+    $.matching = ¢.nanos(Phase.MATCHING);
+    $.conversion = ¢.nanos(Phase.CONVERSION);
+    $.injection = ¢.nanos(Phase.INJECTION);
+    $.residue = ¢.nanos(Phase.RESIDUE);
+    $.commit();
+  }
+
+  @NotNull static <E extends Event> E begun(@NotNull final E $) {
+    $.begin();
+    return $;
+  }
+
+  /** The events of an extraction in progress, which began when it did */
+  private static final class Extraction {
+    /** The extraction in progress in the same thread when this one began */
+    @Nullable final Extraction outer;
+    @NotNull final ExtractionEvent event = begun(new ExtractionEvent());
+    /** The event of the next error found, if any */
+    @NotNull ErrorEvent error = begun(new ErrorEvent());
+
+    Extraction(@Nullable final Extraction outer) {
+      this.outer = outer;
+    }
+  }
+
+  @Name("il.org.spartan.external.Extraction") //
+  @Label("Extraction") //
+  @Category({ "Spartan", "CLI" }) //
+  @Description("Extraction of options into the External members of targets") //
+  @StackTrace(false) //
+  static final class ExtractionEvent extends Event {
+    @Label("Target") @Description("The class of the first target") Class<?> target;
+    @Label("Targets") int targets;
+    @Label("Matched") @Description("Options found") int matched;
+    @Label("Converted") @Description("Values converted from text") int converted;
+    @Label("Errors") int errors;
+    @Label("Lookups") @Description("Reflective lookups") int lookups;
+    @Label("Discovery") @Timespan(Timespan.NANOSECONDS) long discovery;
+    @Label("Matching") @Timespan(Timespan.NANOSECONDS) long matching;
+    @Label("Conversion") @Timespan(Timespan.NANOSECONDS) long conversion;
+    @Label("Injection") @Timespan(Timespan.NANOSECONDS) long injection;
+    @Label("Residue") @Timespan(Timespan.NANOSECONDS) long residue;
+  }
+
+  @Name("il.org.spartan.external.ExtractionError") //
+  @Label("Extraction Error") //
+  @Category({ "Spartan", "CLI" }) //
+  @Description("An error found while extracting options, lasting from the beginning of the extraction, or from the previous error") //
+  static final class ErrorEvent extends Event {
+    @Label("Target") Class<?> target;
+    @Label("Option") String option;
+    @Label("Error") String error;
+    @Label("Message") String message;
+  }
+}
@@ -0,0 +1,68 @@
+package il.org.spartan.external.jfr;
+
+import static il.org.spartan.external.External.Introspector.extract;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.Test;
+
+import il.org.spartan.external.External;
+import il.org.spartan.external.External.Introspector;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/** Tests of {@link FlightRecorder}
+ * @since 2026-10-16 */
+public class FlightRecorderTest {
+  public static class Options {
+    @External int count;
+    @External boolean verbose;
+  }
+
+  @Test public void flightRecorderEvents() throws IOException {
+    @NotNull final Path p = Files.createTempFile("extraction", ".jfr");
+    try (Recording r = new Recording()) {
+      r.enable("il.org.spartan.external.Extraction");
+      r.enable("il.org.spartan.external.ExtractionError");
+      r.start();
+      @NotNull final FlightRecorder f = FlightRecorder.install();
+      try {
+        extract(new String[] { "-count", "7", "-verbose" }, new Options());
+        extract(new String[] { "-count", "x" }, new Options());
+        fail();
+      } catch (@NotNull final RuntimeException ¢) {
+        // Recorded as an event
+      } finally {
+        Introspector.removeListener(f);
+      }
+      r.stop();
+      r.dump(p);
+      @NotNull final List<RecordedEvent> extractions = new ArrayList<>(), errors = new ArrayList<>();
+      for (@NotNull final RecordedEvent ¢ : RecordingFile.readAllEvents(p))
+        if ("il.org.spartan.external.ExtractionError".equals(¢.getEventType().getName()))
+          errors.add(¢);
+        else if (Options.class.getName().equals(¢.getClass("target").getName()))
+          extractions.add(¢);
+      assertEquals(2, extractions.size());
+      assertTrue(extractions.get(0).getDuration().toNanos() >= extractions.get(0).getLong("discovery"));
+      assertTrue(extractions.get(1).getDuration().toNanos() > 0);
+      assertEquals(2, extractions.get(0).getInt("matched"));
+      assertEquals(1, extractions.get(1).getInt("errors"));
+      assertEquals(1, errors.size());
+      assertEquals("count", errors.get(0).getString("option"));
+      assertEquals("NumericParsingError", errors.get(0).getString("error"));
+      assertTrue(errors.get(0).getDuration().toNanos() > 0);
+    } finally {
+      Files.delete(p);
+    }
+  }
+}
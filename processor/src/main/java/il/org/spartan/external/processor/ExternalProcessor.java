@@ -0,0 +1,512 @@
+package il.org.spartan.external.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.StandardLocation;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import il.org.spartan.external.External;
+
+/** An annotation processor which generates, for every class <code>C</code>
+ * with {@link External} or {@link External.Residue} members, a class named
+ * <code>C$ExternalParser</code> implementing
+ * {@link il.org.spartan.external.ExternalParser}. The generated class
+ * describes the members of <code>C</code> and of its super classes, and reads
+ * and writes them with plain Java code, so that
+ * {@link External.Introspector} needs not examine <code>C</code> by
+ * reflection.
+ * <p>
+ * Members which the generated code cannot access, e.g.,
+ * <code><b>private</b></code>, <code><b>static</b></code> or
+ * <code><b>final</b></code> fields, are still
+ * accessed by reflection. These, along with the generated classes, and the
+ * <code>(String)</code> constructors and <code><b>enum</b></code> constants
+ * used for converting values, are listed in a
+ * <code>META-INF/native-image/il.org.spartan.external/<i>module</i>/reflect-config.json</code>
+ * resource, which GraalVM's <code>native-image</code> picks up. The
+ * <i>module</i> is given by the {@value #MODULE} option, e.g.,
+ * <code>-A{@value #MODULE}=com.example.tool</code>, and is otherwise the
+ * longest package prefix common to the classes processed, so that jars built
+ * by this processor do not shadow each other's resource.
+ * <p>
+ * No class is generated for classes which are not accessible from their own
+ * package, e.g., local and <code><b>private</b></code> classes, and for
+ * classes whose setter based properties cannot be called directly; these are
+ * examined by reflection, as before.
+ * @since 2026-10-16 */
+@SupportedAnnotationTypes({ "il.org.spartan.external.External", "il.org.spartan.external.External.Residue" }) //
+@SupportedOptions(ExternalProcessor.MODULE) //
+public class ExternalProcessor extends AbstractProcessor {
+  static final String SUFFIX = "$ExternalParser";
+  /** Name of the option which names the module being compiled */
+  static final String MODULE = "il.org.spartan.external.module";
+  /** Name of the module when its classes are in the unnamed package */
+  static final String UNNAMED = "unnamed";
+  /** Path of the reflection configuration, given the name of the module */
+  static final String METADATA = "META-INF/native-image/il.org.spartan.external/%s/reflect-config.json";
+  /** Packages of the classes processed */
+  private final Set<String> packages = new TreeSet<>();
+  /** Members needing reflection, by the binary name of their class */
+  private final Map<String, Set<String>> fields = new TreeMap<>();
+  private final Map<String, Set<String>> methods = new TreeMap<>();
+  private final Set<String> done = new TreeSet<>();
+  private Elements elements;
+  private Types types;
+
+  @Override public synchronized void init(@NotNull final ProcessingEnvironment ¢) {
+    super.init(¢);
+    elements = ¢.getElementUtils();
+    types = ¢.getTypeUtils();
+  }
+
+  @Override public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override public boolean process(@NotNull final Set<? extends TypeElement> annotations, @NotNull final RoundEnvironment r) {
+    if (r.processingOver()) {
+      writeMetadata();
+      return true;
+    }
+    @NotNull final Set<TypeElement> ts = new LinkedHashSet<>();
+    for (@NotNull final TypeElement a : annotations)
+      for (@NotNull final Element ¢ : r.getElementsAnnotatedWith(a))
+        if (¢.getEnclosingElement() instanceof TypeElement)
+          ts.add((TypeElement) ¢.getEnclosingElement());
+    for (@NotNull final TypeElement ¢ : ts)
+      if (done.add(binaryName(¢))) {
+        packages.add(packageOf(¢).getQualifiedName() + "");
+        generate(¢);
+      }
+    // Other processors have nothing to do with these annotations
+    return true;
+  }
+
+  private void generate(@NotNull final TypeElement t) {
+    if (t.getKind() != ElementKind.CLASS || !accessible(t, packageOf(t)))
+      return;
+    @Nullable final String body = describe(t);
+    if (body == null)
+      return;
+    @NotNull final String name = binaryName(t).substring(packagePrefix(t).length()) + SUFFIX;
+    try (Writer w = processingEnv.getFiler().createSourceFile(packagePrefix(t) + name, t).openWriter()) {
+      w.write(source(t, name, body));
+    } catch (@NotNull final IOException ¢) {
+      processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "cannot generate " + name + ": " + ¢, t);
+      return;
+    }
+    method(packagePrefix(t) + name, "<init>()");
+  }
+
+  @NotNull private static String source(@NotNull final TypeElement t, @NotNull final String name, @NotNull final String body) {
+    @NotNull final StringBuilder $ = new StringBuilder();
+    @NotNull final String p = packageOf(t).getQualifiedName() + "";
+    if (!p.isEmpty())
+      $.append("package ").append(p).append(";\n\n");
+    return $.append("/** Generated by {@link ").append(ExternalProcessor.class.getName()).append("}; do not edit. */\n") //
+        .append("@SuppressWarnings({ \"unchecked\", \"rawtypes\", \"cast\" })\n") //
+        .append("public final class ").append(name).append(" implements il.org.spartan.external.ExternalParser {\n") //
+        .append("  @Override public void describe(final Members m) {\n") //
+        .append(body) //
+        .append("  }\n") //
+        .append("}\n") + "";
+  }
+
+  /** @param t a class
+   * @return the statements describing the members of the parameter to a
+   *         variable named <code>m</code>, or <code><b>null</b></code> if no
+   *         parser can be generated for it */
+  @Nullable private String describe(@NotNull final TypeElement t) {
+    @NotNull final PackageElement p = packageOf(t);
+    @NotNull final List<TypeElement> hierarchy = hierarchy(t);
+    for (@NotNull final TypeElement ¢ : hierarchy)
+      if (!accessible(¢, p) && hasMembers(¢))
+        return null;
+    @NotNull final StringBuilder $ = new StringBuilder();
+    if (!properties($, t, p))
+      return null;
+    for (@NotNull final TypeElement c : hierarchy)
+      for (@NotNull final VariableElement ¢ : ElementFilter.fieldsIn(c.getEnclosedElements()))
+        if (¢.getAnnotation(External.class) != null)
+          field($, ¢, p);
+    for (@NotNull final TypeElement c : hierarchy)
+      for (@NotNull final ExecutableElement ¢ : ElementFilter.methodsIn(c.getEnclosedElements()))
+        if (¢.getAnnotation(External.class) != null && ¢.getParameters().isEmpty() && ¢.getReturnType().getKind() != TypeKind.VOID)
+          getter($, ¢, p);
+    for (@NotNull final TypeElement c : hierarchy)
+      for (@NotNull final VariableElement ¢ : ElementFilter.fieldsIn(c.getEnclosedElements()))
+        if (¢.getAnnotation(External.Residue.class) != null)
+          residue($, ¢, p);
+    return $ + "";
+  }
+
+  /** Describe the setter based properties of a class, in the order of
+   * {@link java.beans.Introspector}, i.e., sorted by name.
+   * @return <code><b>false</b></code> if one of these cannot be called
+   *         directly */
+  private boolean properties(@NotNull final StringBuilder b, @NotNull final TypeElement t, @NotNull final PackageElement p) {
+    @NotNull final Map<String, ExecutableElement> setters = new TreeMap<>();
+    @NotNull final List<ExecutableElement> all = ElementFilter.methodsIn(elements.getAllMembers(t));
+    for (@NotNull final ExecutableElement ¢ : all)
+      if (isSetter(¢) && ¢.getAnnotation(External.class) != null)
+        setters.put(java.beans.Introspector.decapitalize((¢.getSimpleName() + "").substring(3)), ¢);
+    for (@NotNull final Entry<String, ExecutableElement> e : setters.entrySet()) {
+      @NotNull final ExecutableElement s = e.getValue();
+      @NotNull final TypeMirror type = s.getParameters().get(0).asType();
+      @Nullable final String literal = literal(type, p);
+      if (literal == null || !accessible(s, p))
+        return false;
+      @Nullable final ExecutableElement g = reader(all, e.getKey(), type);
+      if (g != null && !accessible(g, p))
+        return false;
+      b.append("    m.property(").append(option(s.getAnnotation(External.class), e.getKey())).append(", ").append(literal).append(", ") //
+          .append(g == null ? "null" : "target -> " + receiver(g, "target") + "." + g.getSimpleName() + "()").append(", ") //
+          .append(setter(type, λ -> receiver(s, "target") + "." + s.getSimpleName() + "(" + λ + ")")).append(");\n");
+      conversion(type);
+    }
+    return true;
+  }
+
+  private void field(@NotNull final StringBuilder b, @NotNull final VariableElement f, @NotNull final PackageElement p) {
+    @Nullable final String literal = literal(f.asType(), p);
+    conversion(f.asType());
+    if (literal == null || !writable(f, p)) {
+      reflective(b, "field", f);
+      field(enclosing(f), f.getSimpleName() + "");
+      return;
+    }
+    b.append("    m.field(").append(option(f.getAnnotation(External.class), f.getSimpleName() + "")).append(", ").append(literal).append(", ") //
+        .append("target -> ").append(access(f)).append(", ") //
+        .append(setter(f.asType(), λ -> access(f) + " = " + λ)).append(");\n");
+  }
+
+  private void getter(@NotNull final StringBuilder b, @NotNull final ExecutableElement m, @NotNull final PackageElement p) {
+    @Nullable final String literal = literal(m.getReturnType(), p);
+    if (literal == null || !accessible(m, p)) {
+      reflective(b, "getter", m);
+      method(binaryName(enclosing(m)), m.getSimpleName() + "()");
+      return;
+    }
+    b.append("    m.getter(").append(option(m.getAnnotation(External.class), m.getSimpleName() + "")).append(", ").append(literal).append(", ") //
+        .append("target -> ").append(receiver(m, "target")).append(".").append(m.getSimpleName()).append("());\n");
+  }
+
+  private void residue(@NotNull final StringBuilder b, @NotNull final VariableElement f, @NotNull final PackageElement p) {
+    @Nullable final String literal = literal(f.asType(), p);
+    conversion(f.asType());
+    if (literal == null || !writable(f, p)) {
+      reflective(b, "residue", f);
+      field(enclosing(f), f.getSimpleName() + "");
+      return;
+    }
+    b.append("    m.residue(").append(string(f.getSimpleName() + "")).append(", ").append(literal).append(", ") //
+        .append("(target, value) -> ").append(access(f)).append(" = ").append(cast(f.asType())).append("value);\n");
+  }
+
+  /** @param type the type of a member
+   * @param write makes a statement which writes a given expression into the
+   *        member
+   * @return an expression of a {@link il.org.spartan.external.ExternalParser.Setter}
+   *         of the member; if it is of a primitive type, the setter overrides
+   *         the method which writes values of this type without boxing them,
+   *         e.g., <code>setInt</code> */
+  @NotNull private String setter(@NotNull final TypeMirror type, @NotNull final Function<String, String> write) {
+    if (!type.getKind().isPrimitive() || type.getKind() == TypeKind.CHAR)
+      return "(target, value) -> " + write.apply(cast(type) + "value");
+    @NotNull final String name = type.getKind().name();
+    return "new Setter() {\n" //
+        + "      @Override public void set(final Object target, final Object value) {\n" //
+        + "        " + write.apply(cast(type) + "value") + ";\n" //
+        + "      }\n\n" //
+        + "      @Override public void set" + name.charAt(0) + name.substring(1).toLowerCase() + "(final Object target, final " + type + " value) {\n" //
+        + "        " + write.apply("value") + ";\n" //
+        + "      }\n" //
+        + "    }";
+  }
+
+  private void reflective(@NotNull final StringBuilder b, @NotNull final String kind, @NotNull final Element e) {
+    b.append("    m.").append(kind).append("(").append(erasure(enclosing(e).asType())).append(".class, ").append(string(e.getSimpleName() + ""))
+        .append(");\n");
+  }
+
+  /** Record the reflective operations by which values of a given type are
+   * converted from text */
+  private void conversion(@NotNull final TypeMirror t) {
+    @NotNull final TypeMirror $ = t.getKind() == TypeKind.ARRAY ? ((ArrayType) t).getComponentType() : t;
+    if ($.getKind() != TypeKind.DECLARED)
+      return;
+    if (!((DeclaredType) $).getTypeArguments().isEmpty()) {
+      conversion(((DeclaredType) $).getTypeArguments().get(0));
+      return;
+    }
+    @NotNull final TypeElement e = (TypeElement) ((DeclaredType) $).asElement();
+    if (e.getQualifiedName().contentEquals(String.class.getName()))
+      return;
+    if (e.getKind() == ElementKind.INTERFACE)
+      return;
+    if (e.getKind() == ElementKind.ENUM)
+      method(binaryName(e), "values()");
+    else
+      method(binaryName(e), "<init>(java.lang.String)");
+  }
+
+  /** @return the arguments of a description call: the name, alias,
+   *         requiredness, description and delimiter of an option */
+  @NotNull private static String option(@NotNull final External x, @NotNull final String defaultName) {
+    return string(x.name().isEmpty() ? defaultName : x.name()) + ", " + (x.alias().isEmpty() ? "null" : string(x.alias())) + ", " + x.required() + ", "
+        + string(x.value() + x.description()) + ", " + string(x.delimiter());
+  }
+
+  @Nullable private static ExecutableElement reader(@NotNull final List<ExecutableElement> all, @NotNull final String property,
+      @NotNull final TypeMirror type) {
+    @NotNull final String suffix = Character.toUpperCase(property.charAt(0)) + property.substring(1);
+    for (@NotNull final ExecutableElement ¢ : all)
+      if (isReader(¢) && (("get" + suffix).contentEquals(¢.getSimpleName())
+          || type.getKind() == TypeKind.BOOLEAN && ("is" + suffix).contentEquals(¢.getSimpleName())))
+        return ¢;
+    return null;
+  }
+
+  private static boolean isSetter(@NotNull final ExecutableElement ¢) {
+    return isPublicInstance(¢) && ¢.getSimpleName().length() > 3 && (¢.getSimpleName() + "").startsWith("set") && ¢.getParameters().size() == 1
+        && ¢.getReturnType().getKind() == TypeKind.VOID;
+  }
+
+  private static boolean isReader(@NotNull final ExecutableElement ¢) {
+    return isPublicInstance(¢) && ¢.getParameters().isEmpty() && ¢.getReturnType().getKind() != TypeKind.VOID;
+  }
+
+  private static boolean isPublicInstance(@NotNull final Element ¢) {
+    return ¢.getModifiers().contains(Modifier.PUBLIC) && !¢.getModifiers().contains(Modifier.STATIC);
+  }
+
+  private static boolean hasMembers(@NotNull final TypeElement t) {
+    for (@NotNull final Element ¢ : t.getEnclosedElements())
+      if (¢.getAnnotation(External.class) != null || ¢.getAnnotation(External.Residue.class) != null)
+        return true;
+    return false;
+  }
+
+  /** @return the parameter and its super classes, excluding {@link Object} */
+  @NotNull private List<TypeElement> hierarchy(@NotNull final TypeElement t) {
+    @NotNull final List<TypeElement> $ = new ArrayList<>();
+    for (TypeElement ¢ = t; ¢ != null && !¢.getQualifiedName().contentEquals(Object.class.getName()); ¢ = superclass(¢))
+      $.add(¢);
+    return $;
+  }
+
+  @Nullable private TypeElement superclass(@NotNull final TypeElement ¢) {
+    return ¢.getSuperclass().getKind() != TypeKind.DECLARED ? null : (TypeElement) types.asElement(¢.getSuperclass());
+  }
+
+  /** @return whether generated code may write a field; <code><b>static</b></code>
+   *         fields are left to reflection, which tells these apart from
+   *         instance fields, as {@link il.org.spartan.external.Parser} needs */
+  private boolean writable(@NotNull final VariableElement f, @NotNull final PackageElement p) {
+    return !f.getModifiers().contains(Modifier.FINAL) && !f.getModifiers().contains(Modifier.STATIC) && accessible(f, p);
+  }
+
+  /** @return whether an element can be accessed by code in a given package,
+   *         i.e., neither it nor any of its enclosing classes is
+   *         <code><b>private</b></code>, and each of these which is not
+   *         <code><b>public</b></code> resides in this package */
+  private static boolean accessible(@NotNull final Element e, @NotNull final PackageElement p) {
+    if (!visible(e, p))
+      return false;
+    for (Element ¢ = e.getEnclosingElement(); ¢.getKind() != ElementKind.PACKAGE; ¢ = ¢.getEnclosingElement())
+      if (!¢.getKind().isClass() && !¢.getKind().isInterface() || !visible(¢, p))
+        return false;
+    return true;
+  }
+
+  private static boolean visible(@NotNull final Element e, @NotNull final PackageElement p) {
+    return !e.getModifiers().contains(Modifier.PRIVATE) && (e.getModifiers().contains(Modifier.PUBLIC) || packageOf(e).equals(p));
+  }
+
+  /** @return a class literal of the erasure of the parameter, or
+   *         <code><b>null</b></code> if this type is not accessible, or is
+   *         parameterized, e.g., <code>List&lt;Integer&gt;</code>, since the
+   *         element type is lost in a literal */
+  @Nullable private String literal(@NotNull final TypeMirror t, @NotNull final PackageElement p) {
+    if (t.getKind() == TypeKind.DECLARED && !((DeclaredType) t).getTypeArguments().isEmpty())
+      return null;
+    @NotNull final TypeMirror $ = types.erasure(t);
+    if ($.getKind().isPrimitive())
+      return $ + ".class";
+    if ($.getKind() == TypeKind.ARRAY) {
+      @Nullable final String component = literal(((ArrayType) $).getComponentType(), p);
+      return component == null ? null : component.replaceFirst("\\.class$", "[].class");
+    }
+    return $.getKind() != TypeKind.DECLARED || !accessible(types.asElement($), p) ? null : $ + ".class";
+  }
+
+  /** @return a cast of an {@link Object} into the parameter type, boxed if it
+   *         is primitive */
+  @NotNull private String cast(@NotNull final TypeMirror t) {
+    return "(" + (t.getKind().isPrimitive() ? types.boxedClass(types.getPrimitiveType(t.getKind())).getQualifiedName() : erasure(t)) + ") ";
+  }
+
+  @NotNull private String erasure(@NotNull final TypeMirror ¢) {
+    return types.erasure(¢) + "";
+  }
+
+  @NotNull private String access(@NotNull final VariableElement ¢) {
+    return receiver(¢, "target") + "." + ¢.getSimpleName();
+  }
+
+  @NotNull private String receiver(@NotNull final Element member, @NotNull final String target) {
+    @NotNull final String $ = erasure(enclosing(member).asType());
+    return member.getModifiers().contains(Modifier.STATIC) ? $ : "((" + $ + ") " + target + ")";
+  }
+
+  @NotNull private static TypeElement enclosing(@NotNull final Element ¢) {
+    return (TypeElement) ¢.getEnclosingElement();
+  }
+
+  @NotNull private static PackageElement packageOf(@NotNull final Element e) {
+    Element $ = e;
+    while ($.getKind() != ElementKind.PACKAGE)
+      $ = $.getEnclosingElement();
+    return (PackageElement) $;
+  }
+
+  @NotNull private static String packagePrefix(@NotNull final TypeElement t) {
+    @NotNull final PackageElement $ = packageOf(t);
+    return $.isUnnamed() ? "" : $.getQualifiedName() + ".";
+  }
+
+  @NotNull private String binaryName(@NotNull final TypeElement ¢) {
+    return elements.getBinaryName(¢) + "";
+  }
+
+  private void field(@NotNull final TypeElement c, @NotNull final String field) {
+    fields.computeIfAbsent(binaryName(c), λ -> new TreeSet<>()).add(field);
+  }
+
+  private void method(@NotNull final String c, @NotNull final String signature) {
+    methods.computeIfAbsent(c, λ -> new TreeSet<>()).add(signature);
+  }
+
+  /** @return a Java string literal, with all non ASCII characters escaped */
+  @NotNull static String string(@NotNull final String s) {
+    @NotNull final StringBuilder $ = new StringBuilder("\"");
+    for (final char ¢ : s.toCharArray())
+      if (¢ == '"' || ¢ == '\\')
+        $.append('\\').append(¢);
+      else if (¢ >= ' ' && ¢ < 127)
+        $.append(¢);
+      else
+        $.append(String.format("\\u%04x", Integer.valueOf(¢)));
+    return $.append('"') + "";
+  }
+
+  private void writeMetadata() {
+    if (fields.isEmpty() && methods.isEmpty())
+      return;
+    @NotNull final String path = String.format(METADATA, module());
+    try (Writer w = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", path).openWriter()) {
+      w.write(metadata());
+    } catch (@NotNull final IOException ¢) {
+      processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, "cannot write " + path + ": " + ¢);
+    }
+  }
+
+  /** @return the name of the module being compiled, as given by the
+   *         {@value #MODULE} option, or else the longest package prefix common
+   *         to the classes processed, or else the first of their packages */
+  @NotNull private String module() {
+    @Nullable final String $ = processingEnv.getOptions().get(MODULE);
+    return $ != null && !$.isEmpty() ? $ : module(packages);
+  }
+
+  /** @param packages the names of packages, in order
+   * @return their longest common prefix, made of whole names, or else the
+   *         first of them which is named, or else {@link #UNNAMED} */
+  @NotNull static String module(@NotNull final Set<String> packages) {
+    @Nullable String $ = null;
+    for (@NotNull final String ¢ : packages)
+      $ = $ == null ? ¢ : common($, ¢);
+    if ($ != null && !$.isEmpty())
+      return $;
+    for (@NotNull final String ¢ : packages)
+      if (!¢.isEmpty())
+        return ¢;
+    return UNNAMED;
+  }
+
+  /** @return the longest common prefix of two package names, made of whole
+   *         names */
+  @NotNull private static String common(@NotNull final String p1, @NotNull final String p2) {
+    @NotNull final String[] ns1 = p1.split("\\."), ns2 = p2.split("\\.");
+    @NotNull final StringBuilder $ = new StringBuilder();
+    for (int ¢ = 0; ¢ < Math.min(ns1.length, ns2.length) && ns1[¢].equals(ns2[¢]); ++¢)
+      $.append($.length() == 0 ? "" : ".").append(ns1[¢]);
+    return $ + "";
+  }
+
+  /** @return the reflection configuration, in the JSON format of
+   *         <code>native-image</code> */
+  @NotNull String metadata() {
+    @NotNull final Set<String> classes = new TreeSet<>(fields.keySet());
+    classes.addAll(methods.keySet());
+    @NotNull final StringBuilder $ = new StringBuilder("[");
+    for (@NotNull final String c : classes) {
+      $.append($.length() == 1 ? "\n" : ",\n").append("  {\n    \"name\": ").append(string(c));
+      if (fields.containsKey(c)) {
+        $.append(",\n    \"fields\": [");
+        int n = 0;
+        for (@NotNull final String ¢ : fields.get(c))
+          $.append(n++ == 0 ? "" : ", ").append("{ \"name\": ").append(string(¢)).append(", \"allowWrite\": true }");
+        $.append("]");
+      }
+      if (methods.containsKey(c)) {
+        $.append(",\n    \"methods\": [");
+        int n = 0;
+        for (@NotNull final String ¢ : methods.get(c))
+          $.append(n++ == 0 ? "" : ", ").append("{ \"name\": ").append(string(¢.substring(0, ¢.indexOf('(')))).append(", \"parameterTypes\": [")
+              .append(parameters(¢)).append("] }");
+        $.append("]");
+      }
+      $.append("\n  }");
+    }
+    return $.append("\n]\n") + "";
+  }
+
+  @NotNull private static String parameters(@NotNull final String signature) {
+    @NotNull final String $ = signature.substring(signature.indexOf('(') + 1, signature.length() - 1);
+    return $.isEmpty() ? "" : string($);
+  }
+}
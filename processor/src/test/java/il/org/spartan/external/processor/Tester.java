@@ -0,0 +1,180 @@
+package il.org.spartan.external.processor;
+
+import static il.org.spartan.external.External.Introspector.extract;
+import static il.org.spartan.external.External.Introspector.toOrderedMap;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import il.org.spartan.external.External.Introspector;
+import il.org.spartan.external.ExternalParser;
+import il.org.spartan.external.ParseListener;
+
+/** Compiles a sample class with the {@link ExternalProcessor}, and extracts
+ * options into it through the generated parser.
+ * @since 2026-10-16 */
+@SuppressWarnings("static-method") //
+public class Tester {
+  private static final String SAMPLE = String.join("\n", //
+      "package sample;", //
+      "import il.org.spartan.external.External;", //
+      "import java.io.File;", //
+      "public class Job extends Base {", //
+      "  public enum Mode { FAST, SLOW }", //
+      "  @External(alias = \"n\") public int count = 1;", //
+      "  @External static String label;", //
+      "  @External private long secret;", //
+      "  @External Mode mode;", //
+      "  @External(delimiter = \":\") File[] path;", //
+      "  @External java.util.List<Integer> sizes;", //
+      "  @External.Residue String[] rest;", //
+      "  private Integer minimum;", //
+      "  public Integer getMinimum() { return minimum; }", //
+      "  @External(name = \"min\") public void setMinimum(Integer m) { minimum = m; }", //
+      "  @External String kind() { return \"job\"; }", //
+      "}", //
+      "class Base {", //
+      "  @External(required = true) boolean verbose;", //
+      "}");
+  private static Path output;
+  private static ClassLoader loader;
+
+  @BeforeClass public static void compile() throws IOException {
+    output = compile(true);
+    loader = new URLClassLoader(new URL[] { output.toUri().toURL() }, Tester.class.getClassLoader());
+  }
+
+  /** @param process whether to run the {@link ExternalProcessor}
+   * @param extra further options of the compiler
+   * @return the directory into which the sample was compiled */
+  @NotNull private static Path compile(final boolean process, @NotNull final String... extra) throws IOException {
+    @NotNull final Path sources = Files.createTempDirectory("sources"), $ = Files.createTempDirectory("classes");
+    @NotNull final Path source = Files.createDirectories(sources.resolve("sample")).resolve("Job.java");
+    Files.write(source, SAMPLE.getBytes(StandardCharsets.UTF_8));
+    @NotNull final JavaCompiler c = ToolProvider.getSystemJavaCompiler();
+    try (StandardJavaFileManager m = c.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+      @NotNull final List<String> options = new ArrayList<>(Arrays.asList("-d", $ + "", "-classpath", System.getProperty("java.class.path")));
+      if (!process)
+        options.add("-proc:none");
+      options.addAll(Arrays.asList(extra));
+      @NotNull final JavaCompiler.CompilationTask t = c.getTask(null, m, null, options, null, m.getJavaFileObjects(source.toFile()));
+      if (process)
+        t.setProcessors(Collections.singletonList(new ExternalProcessor()));
+      assertTrue("sample does not compile", t.call().booleanValue());
+    }
+    return $;
+  }
+
+  @Test public void parserIsGenerated() throws ClassNotFoundException {
+    assertTrue(ExternalParser.class.isAssignableFrom(loader.loadClass("sample.Job" + ExternalProcessor.SUFFIX)));
+  }
+
+  @Test public void generatedParserReplacesReflection() throws IOException, ReflectiveOperationException {
+    final int generated = lookups(output), reflective = lookups(compile(false));
+    assertTrue(generated + " lookups, rather than " + reflective, generated > 0 && generated < reflective / 2);
+  }
+
+  /** @param classes where the sample was compiled
+   * @return the number of reflective lookups made by the first extraction
+   *         into a fresh copy of the sample class */
+  private static int lookups(@NotNull final Path classes) throws IOException, ReflectiveOperationException {
+    try (URLClassLoader l = new URLClassLoader(new URL[] { classes.toUri().toURL() }, Tester.class.getClassLoader())) {
+      @NotNull final Object job = l.loadClass("sample.Job").getDeclaredConstructor().newInstance();
+      @NotNull final List<ParseListener.Statistics> $ = new ArrayList<>();
+      @NotNull final ParseListener listener = $::add;
+      Introspector.addListener(listener);
+      try {
+        extract(new String[] { "-verbose" }, job);
+      } finally {
+        Introspector.removeListener(listener);
+      }
+      assertEquals(1, $.size());
+      return $.get(0).lookups;
+    }
+  }
+
+  @Test public void primitivesAreWrittenWithoutBoxing() throws ReflectiveOperationException {
+    @NotNull final Map<String, ExternalParser.Setter> $ = new HashMap<>();
+    ((ExternalParser) loader.loadClass("sample.Job" + ExternalProcessor.SUFFIX).getDeclaredConstructor().newInstance())
+        .describe((ExternalParser.Members) Proxy.newProxyInstance(Tester.class.getClassLoader(), new Class<?>[] { ExternalParser.Members.class },
+            (proxy, method, args) -> {
+              for (@NotNull final Object ¢ : args)
+                if (¢ instanceof ExternalParser.Setter)
+                  $.put((String) args[0], (ExternalParser.Setter) ¢);
+              return null;
+            }));
+    // Found only if declared by the generated setter, rather than inherited
+    $.get("count").getClass().getDeclaredMethod("setInt", Object.class, int.class);
+    $.get("verbose").getClass().getDeclaredMethod("setBoolean", Object.class, boolean.class);
+    $.get("min").getClass().getDeclaredMethod("set", Object.class, Object.class);
+  }
+
+  @Test public void extractThroughGeneratedParser() throws ReflectiveOperationException {
+    @NotNull final Object job = loader.loadClass("sample.Job").getDeclaredConstructor().newInstance();
+    final List<String> rest = extract(new String[] { "-n", "5", "-label", "L", "-secret", "7", "-mode", "SLOW", "-path", "a:b", "-sizes", "1,2", "-min", "3",
+        "-verbose", "f1", "f2" }, job);
+    assertEquals("[f1, f2]", rest + "");
+    final Map<String, String> m = toOrderedMap(job);
+    assertEquals("3", m.get("min"));
+    assertEquals("5", m.get("count"));
+    assertEquals("L", m.get("label"));
+    assertEquals("7", m.get("secret"));
+    assertEquals("SLOW", m.get("mode"));
+    assertEquals("a:b", m.get("path"));
+    assertEquals("1,2", m.get("sizes"));
+    assertEquals("true", m.get("verbose"));
+    assertEquals("job", m.get("kind"));
+    assertEquals("[min, count, label, secret, mode, path, sizes, verbose, kind]", m.keySet() + "");
+  }
+
+  @Test public void metadataListsReflectiveMembers() throws IOException {
+    @NotNull final String $ = new String(Files.readAllBytes(output.resolve(String.format(ExternalProcessor.METADATA, "sample"))), StandardCharsets.UTF_8);
+    assertTrue($.contains("\"name\": \"sample.Job\""));
+    assertTrue($.contains("{ \"name\": \"secret\", \"allowWrite\": true }"));
+    assertTrue($.contains("\"name\": \"sample.Job$ExternalParser\""));
+    assertTrue($.contains("\"name\": \"sample.Job$Mode\""));
+    assertTrue($.contains("\"name\": \"java.io.File\""));
+    assertTrue($.contains("{ \"name\": \"sizes\", \"allowWrite\": true }"));
+    assertTrue($.contains("\"name\": \"java.lang.Integer\""));
+  }
+
+  @Test public void metadataIsPlacedByModuleOption() throws IOException {
+    @NotNull final Path $ = compile(true, "-A" + ExternalProcessor.MODULE + "=com.example.tool");
+    assertTrue(Files.exists($.resolve(String.format(ExternalProcessor.METADATA, "com.example.tool"))));
+    assertFalse(Files.exists($.resolve(String.format(ExternalProcessor.METADATA, "sample"))));
+  }
+
+  @Test public void moduleOfPackages() {
+    assertEquals("com.example", ExternalProcessor.module(new TreeSet<>(Arrays.asList("com.example.a", "com.example.b.c", "com.example"))));
+    assertEquals("com.example.a", ExternalProcessor.module(new TreeSet<>(Arrays.asList("com.example.a", "org.example"))));
+    assertEquals("com.examples", ExternalProcessor.module(new TreeSet<>(Arrays.asList("", "com.examples"))));
+    assertEquals(ExternalProcessor.UNNAMED, ExternalProcessor.module(new TreeSet<>(Arrays.asList(""))));
+  }
+
+  @Test public void stringLiterals() {
+    assertEquals("\"a\\\"b\\\\c\\u05d0\"", ExternalProcessor.string("a\"b\\cא"));
+  }
+}
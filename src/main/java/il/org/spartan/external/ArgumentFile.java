@@ -0,0 +1,142 @@
+package il.org.spartan.external;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+
+import org.jetbrains.annotations.NotNull;
+
+/** Reads the arguments stored in an argument file, i.e., a file named on the
+ * command line as <code>@file</code>. The file is mapped into memory, rather
+ * than read through a stream, a window at a time; its UTF-8 contents are
+ * decoded incrementally, into a small buffer, and split into arguments as they
+ * are decoded, so that neither the file nor its text is ever held in full.
+ * <p>
+ * Arguments in the file are separated by white space. An argument may be
+ * enclosed in single or double quotes, in which case it may contain white
+ * space; a quote which is not closed by the end of the file is an error. A
+ * <code>#</code> at the beginning of an argument starts a comment, which ends
+ * with the line.
+ * @since 2026-10-16 */
+final class ArgumentFile {
+  /** Number of bytes of the file mapped at once */
+  private static final long WINDOW = 1 << 24;
+  /** Number of characters decoded at once */
+  private static final int CHUNK = 1 << 13;
+
+  private ArgumentFile() {
+    // Cannot be instantiated
+  }
+
+  /** @param p path of an argument file
+   * @param $ where the arguments found in the file are added
+   * @throws IOException if the file could not be read, or is not valid UTF-8
+   * @throws IllegalArgumentException if a quote in the file is not closed */
+  static void read(@NotNull final Path p, @NotNull final Collection<String> $) throws IOException {
+    @NotNull final Splitter s = new Splitter($);
+    @NotNull final CharsetDecoder d = StandardCharsets.UTF_8.newDecoder();
+    @NotNull final CharBuffer out = CharBuffer.allocate(CHUNK);
+    try (FileChannel c = FileChannel.open(p, StandardOpenOption.READ)) {
+      final long size = c.size();
+      for (long position = 0;;) {
+        @NotNull final ByteBuffer in = c.map(MapMode.READ_ONLY, position, Math.min(size - position, WINDOW));
+        final boolean last = position + in.limit() == size;
+        decode(d, in, out, last, s);
+        if (last)
+          break;
+        // Bytes of a character split between windows are mapped again
+        position += in.position();
+      }
+    }
+    d.flush(out);
+    out.flip();
+    s.feed(out);
+    s.close();
+  }
+
+  private static void decode(@NotNull final CharsetDecoder d, @NotNull final ByteBuffer in, @NotNull final CharBuffer out, final boolean last,
+      @NotNull final Splitter s) throws CharacterCodingException {
+    for (;;) {
+      @NotNull final CoderResult $ = d.decode(in, out, last);
+      if ($.isError())
+        $.throwException();
+      out.flip();
+      s.feed(out);
+      out.clear();
+      if ($.isUnderflow())
+        return;
+    }
+  }
+
+  /** Splits text, which is fed to it in consecutive pieces, into arguments */
+  private static final class Splitter {
+    @NotNull private final Collection<String> arguments;
+    @NotNull private final StringBuilder argument = new StringBuilder();
+    private boolean inArgument;
+    private boolean inComment;
+    /** The quote which opened the quoted part of the current argument, or
+     * <code>0</code> if it is not in such a part */
+    private char quote;
+
+    Splitter(@NotNull final Collection<String> arguments) {
+      this.arguments = arguments;
+    }
+
+    void feed(@NotNull final CharSequence cs) {
+      for (int ¢ = 0; ¢ < cs.length(); ++¢)
+        feed(cs.charAt(¢));
+    }
+
+    private void feed(final char c) {
+      if (inComment) {
+        inComment = c != '\n';
+        return;
+      }
+      if (quote != 0) {
+        if (c == quote)
+          quote = 0;
+        else
+          argument.append(c);
+        return;
+      }
+      if (Character.isWhitespace(c)) {
+        end();
+        return;
+      }
+      if (!inArgument && c == '#') {
+        inComment = true;
+        return;
+      }
+      inArgument = true;
+      if (c == '"' || c == '\'')
+        quote = c;
+      else
+        argument.append(c);
+    }
+
+    private void end() {
+      if (!inArgument)
+        return;
+      arguments.add(argument + "");
+      argument.setLength(0);
+      inArgument = false;
+    }
+
+    /** End the text
+     * @throws IllegalArgumentException if a quote is not closed */
+    void close() {
+      if (quote != 0)
+        throw new IllegalArgumentException("missing closing " + quote + " after '" + argument + "'");
+      end();
+    }
+  }
+}
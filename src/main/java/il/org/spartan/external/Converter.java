@@ -0,0 +1,17 @@
+package il.org.spartan.external;
+
+/** Converts the text of a command line argument, or of a property, into a
+ * value of some type. Converters are registered, per type, by means of
+ * {@link External.Introspector#register(Class, Converter)}, and take precedence
+ * over the built in conversions, i.e., parsing of primitives, lookup of
+ * <code><b>enum</b></code> constants, and invocation of a constructor taking a
+ * single {@link String} argument.
+ * @since 2026-10-16 */
+@FunctionalInterface public interface Converter<T> {
+  /** @param value text to convert
+   * @return the value represented by the parameter
+   * @throws Exception in case the parameter does not represent a legal value;
+   *         the exception is reported to the user as a conversion error of the
+   *         respective option */
+  T convert(String value) throws Exception;
+}
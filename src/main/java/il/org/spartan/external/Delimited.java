@@ -0,0 +1,314 @@
+package il.org.spartan.external;
+
+import java.lang.reflect.Array;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+import org.jetbrains.annotations.NotNull;
+
+/** Scanning of the values of multi-valued options, i.e., text in which
+ * values are separated by a delimiter. The delimiter is taken literally, not
+ * as a regular expression; otherwise, tokens are as those of
+ * {@link String#split(String)}: trailing empty tokens are dropped, and text
+ * without any delimiter is a single token.
+ * <p>
+ * Integral values are parsed directly from the characters of the text into
+ * primitive arrays, without making a {@link String} or a box for each
+ * value. The text is scanned once, into arrays which grow as needed.
+ * @since 2026-10-16 */
+final class Delimited {
+  @NotNull private final String text;
+  @NotNull private final String delimiter;
+
+  Delimited(@NotNull final String text, @NotNull final String delimiter) {
+    this.text = text;
+    this.delimiter = delimiter;
+  }
+
+  /** Receives the boundaries of a token */
+  @FunctionalInterface interface Tokens {
+    void accept(int index, int from, int to);
+  }
+
+  /** Thrown when a token is not a legal number */
+  static final class Malformed extends NumberFormatException {
+    /** The offending token */
+    @NotNull final String token;
+    /** Its position in the text */
+    final int position;
+
+    Malformed(@NotNull final String token, final int position) {
+      super("For input string: \"" + token + "\"");
+      this.token = token;
+      this.position = position;
+    }
+
+    private static final long serialVersionUID = 1;
+  }
+
+  /** Pass the boundaries of each token, in order, to a given receiver.
+   * @param ts receiver of the tokens, or <code><b>null</b></code> if they are
+   *        only to be counted
+   * @return the number of tokens */
+  int scan(final Tokens ts) {
+    if (delimiter.isEmpty())
+      return characters(ts);
+    int $ = 0, from = 0, empty = 0;
+    for (int to = text.indexOf(delimiter); to >= 0; from = to + delimiter.length(), to = text.indexOf(delimiter, from)) {
+      if (to == from) {
+        ++empty;
+        continue;
+      }
+      $ = flush(ts, $, from, empty);
+      empty = 0;
+      emit(ts, $++, from, to);
+    }
+    if (from == 0)
+      emit(ts, $++, 0, text.length());
+    else if (from < text.length()) {
+      $ = flush(ts, $, from, empty);
+      emit(ts, $++, from, text.length());
+    }
+    return $;
+  }
+
+  /** Emit the empty tokens preceding a non empty one, at given position */
+  private int flush(final Tokens ts, final int index, final int from, final int empty) {
+    int $ = index;
+    for (int ¢ = empty; ¢ > 0; --¢, ++$)
+      emit(ts, $, from - ¢ * delimiter.length(), from - ¢ * delimiter.length());
+    return $;
+  }
+
+  /** Tokens of an empty delimiter, as those of {@link String#split(String)},
+   * are the individual characters */
+  private int characters(final Tokens ts) {
+    if (text.isEmpty()) {
+      emit(ts, 0, 0, 0);
+      return 1;
+    }
+    for (int ¢ = 0; ¢ < text.length(); ++¢)
+      emit(ts, ¢, ¢, ¢ + 1);
+    return text.length();
+  }
+
+  private static void emit(final Tokens ts, final int index, final int from, final int to) {
+    if (ts != null)
+      ts.accept(index, from, to);
+  }
+
+  @NotNull String[] strings() {
+    @NotNull final Buffer<String[]> $ = new Buffer<>(new String[capacity()]);
+    return $.trimmed(scan((i, from, to) -> $.room(i)[i] = text.substring(from, to)));
+  }
+
+  @NotNull byte[] bytes() {
+    @NotNull final Buffer<byte[]> $ = new Buffer<>(new byte[capacity()]);
+    return $.trimmed(scan((i, from, to) -> $.room(i)[i] = (byte) parse(from, to, Byte.MIN_VALUE, Byte.MAX_VALUE)));
+  }
+
+  @NotNull short[] shorts() {
+    @NotNull final Buffer<short[]> $ = new Buffer<>(new short[capacity()]);
+    return $.trimmed(scan((i, from, to) -> $.room(i)[i] = (short) parse(from, to, Short.MIN_VALUE, Short.MAX_VALUE)));
+  }
+
+  @NotNull int[] ints() {
+    @NotNull final Buffer<int[]> $ = new Buffer<>(new int[capacity()]);
+    return $.trimmed(scan((i, from, to) -> $.room(i)[i] = (int) parse(from, to, Integer.MIN_VALUE, Integer.MAX_VALUE)));
+  }
+
+  @NotNull long[] longs() {
+    @NotNull final Buffer<long[]> $ = new Buffer<>(new long[capacity()]);
+    return $.trimmed(scan((i, from, to) -> $.room(i)[i] = parse(from, to, Long.MIN_VALUE, Long.MAX_VALUE)));
+  }
+
+  /** Floating point values are converted by the JDK, which is the only
+   * correctly rounding conversion around; each of these makes a
+   * {@link String} */
+  @NotNull float[] floats() {
+    @NotNull final Buffer<float[]> $ = new Buffer<>(new float[capacity()]);
+    return $.trimmed(scan((i, from, to) -> $.room(i)[i] = (float) parseDouble(from, to, true)));
+  }
+
+  @NotNull double[] doubles() {
+    @NotNull final Buffer<double[]> $ = new Buffer<>(new double[capacity()]);
+    return $.trimmed(scan((i, from, to) -> $.room(i)[i] = parseDouble(from, to, false)));
+  }
+
+  /** @return the initial capacity of the array of the values of the tokens:
+   *         the number of tokens there may be, up to a small bound, past
+   *         which the array grows as needed */
+  private int capacity() {
+    return Math.min(INITIAL_CAPACITY, delimiter.isEmpty() ? Math.max(text.length(), 1) : text.length() / delimiter.length() + 1);
+  }
+
+  /** @param error translates a malformed value, met while the stream is
+   *        consumed, into the exception which is then thrown
+   * @return a view of the integers in the text, which are parsed only as the
+   *         stream is consumed */
+  @NotNull IntStream intStream(@NotNull final Function<Malformed, ? extends RuntimeException> error) {
+    @NotNull final Cursor c = new Cursor();
+    return StreamSupport.intStream(new Spliterators.AbstractIntSpliterator(Long.MAX_VALUE, CHARACTERISTICS) {
+      @Override public boolean tryAdvance(final IntConsumer ¢) {
+        if (!c.advance())
+          return false;
+        final int $;
+        try {
+          $ = (int) parse(c.from, c.to, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        } catch (@NotNull final Malformed e) {
+          throw error.apply(e);
+        }
+        ¢.accept($);
+        return true;
+      }
+    }, false);
+  }
+
+  /** @param error translates a malformed value, met while the stream is
+   *        consumed, into the exception which is then thrown
+   * @return a view of the integers in the text, which are parsed only as the
+   *         stream is consumed */
+  @NotNull LongStream longStream(@NotNull final Function<Malformed, ? extends RuntimeException> error) {
+    @NotNull final Cursor c = new Cursor();
+    return StreamSupport.longStream(new Spliterators.AbstractLongSpliterator(Long.MAX_VALUE, CHARACTERISTICS) {
+      @Override public boolean tryAdvance(final LongConsumer ¢) {
+        if (!c.advance())
+          return false;
+        final long $;
+        try {
+          $ = parse(c.from, c.to, Long.MIN_VALUE, Long.MAX_VALUE);
+        } catch (@NotNull final Malformed e) {
+          throw error.apply(e);
+        }
+        ¢.accept($);
+        return true;
+      }
+    }, false);
+  }
+
+  /** Parse an integral value in a given range of the text, accepting the
+   * same input as {@link Long#parseLong(String)}.
+   * @throws Malformed if the range is not a legal number within given
+   *         bounds */
+  long parse(final int from, final int to, final long min, final long max) {
+    if (from >= to)
+      throw malformed(from, to);
+    final char first = text.charAt(from);
+    final boolean negative = first == '-';
+    int i = negative || first == '+' ? from + 1 : from;
+    if (i == to)
+      throw malformed(from, to);
+    // Accumulate negatively, since |Long.MIN_VALUE| > Long.MAX_VALUE
+    final long limit = negative ? min : -max;
+    long $ = 0;
+    for (; i < to; ++i) {
+      final int digit = Character.digit(text.charAt(i), 10);
+      if (digit < 0 || $ < (limit + digit) / 10)
+        throw malformed(from, to);
+      $ = $ * 10 - digit;
+    }
+    return negative ? $ : -$;
+  }
+
+  private double parseDouble(final int from, final int to, final boolean single) {
+    @NotNull final String $ = text.substring(from, to);
+    try {
+      return single ? Float.parseFloat($) : Double.parseDouble($);
+    } catch (@NotNull final NumberFormatException ¢) {
+      throw malformed(from, to);
+    }
+  }
+
+  @NotNull private Malformed malformed(final int from, final int to) {
+    return new Malformed(text.substring(from, to), from);
+  }
+
+  private static final int CHARACTERISTICS = Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE;
+  private static final int INITIAL_CAPACITY = 16;
+
+  /** An array, of any component type, which grows as tokens are scanned, so
+   * that the text is scanned once, rather than once to count the tokens and
+   * again to convert them */
+  private static final class Buffer<A> {
+    @NotNull private A array;
+    private int capacity;
+
+    Buffer(@NotNull final A array) {
+      this.array = array;
+      capacity = Array.getLength(array);
+    }
+
+    /** @return the array, grown if needed to have room at a given index,
+     *         which is at most its length */
+    @NotNull A room(final int index) {
+      if (index == capacity) {
+        array = copy(2 * capacity);
+        capacity *= 2;
+      }
+      return array;
+    }
+
+    /** @return the array, shrunk to a given length */
+    @NotNull A trimmed(final int length) {
+      return length == capacity ? array : copy(length);
+    }
+
+    @SuppressWarnings("unchecked") @NotNull private A copy(final int length) {
+      @NotNull final A $ = (A) Array.newInstance(array.getClass().getComponentType(), length);
+      System.arraycopy(array, 0, $, 0, Math.min(length, capacity));
+      return $;
+    }
+  }
+
+  /** Finds the tokens of the text one at a time, for values which may not be
+   * empty: a run of empty tokens followed by a non empty one is reported as a
+   * single empty token, at the position of the first, on which parsing then
+   * fails. */
+  private final class Cursor {
+    /** Boundaries of the current token */
+    int from, to;
+    private int next;
+    private boolean done;
+
+    boolean advance() {
+      if (done)
+        return false;
+      if (delimiter.isEmpty())
+        return character();
+      final int first = next;
+      for (int end = text.indexOf(delimiter, next);; next = end + delimiter.length(), end = text.indexOf(delimiter, next)) {
+        if (end < 0) {
+          done = true;
+          return (next < text.length() || next == 0) && token(first, text.length());
+        }
+        if (end != next)
+          return token(first, end);
+      }
+    }
+
+    private boolean character() {
+      if (text.isEmpty())
+        done = true;
+      else if (next < text.length())
+        ++next;
+      else
+        return false;
+      from = next - 1 < 0 ? 0 : next - 1;
+      to = next;
+      return true;
+    }
+
+    private boolean token(final int first, final int end) {
+      from = first == next ? next : first;
+      to = first == next ? end : first;
+      next = end + delimiter.length();
+      return true;
+    }
+  }
+}
@@ -10,34 +10,55 @@
 */
 package il.org.spartan.external;
 
-import java.beans.IntrospectionException;
 import java.beans.PropertyDescriptor;
+import java.io.IOException;
+import java.io.Reader;
 import java.lang.annotation.Documented;
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Array;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Properties;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.BaseStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import il.org.spartan.external.OptionSchema.Accessor;
+import il.org.spartan.external.OptionSchema.Mutator;
+
 /** Annotation for <code><b>static</b></code> and non-<code><b>static</b></code>
  * data members whose value can be set, externally, i.e., not by usual
  * initialization or via a setter, but from command line arguments.
@@ -47,7 +68,15 @@ import org.jetbrains.annotations.Nullable;
  * {@link Introspector#extract(String[], Object...)} or function
  * {@link Introspector#extract(List, Object...)}. The value can also be
  * extracted from @link{java.util.Properties} by means of
- * {@link Introspector#extract(Properties, Object...)}.
+ * {@link Introspector#extract(Properties, Object...)}, or, without loading
+ * these into a table, from text in the format of properties files by means of
+ * {@link Introspector#extract(Reader, Object...)}. Function
+ * {@link Introspector#expand(String...)} replaces <code>@file</code>
+ * arguments by the contents of the named argument files.
+ * <p>
+ * A {@link Parser}, made once for a given class, extracts arguments into fresh
+ * instances of this class, without any global side effects, and may be
+ * shared by many threads.
  * <p>
  * @author Sam Pullara.
  * @author Yossi Gil {@literal <yogi@cs.technion.ac.il>}
@@ -76,7 +105,9 @@ public @interface External {
   /** If true, then the option must be set for the parser not to fail */
   boolean required() default false;
 
-  /** A delimiter for arguments that are multi-valued. */
+  /** A delimiter for arguments that are multi-valued, i.e., arrays,
+   * {@link List}s, {@link Set}s, {@link IntStream}s and {@link LongStream}s;
+   * it is taken literally, rather than as a regular expression. */
   @NotNull String delimiter() default ",";
 
   /** Annotation for <code><b>static</b></code> and non-
@@ -89,7 +120,13 @@ public @interface External {
    * arguments, i.e., those which were not options.
    * <p>
    * As usual, the array component type must must have a constructor which takes
-   * a single {@link String} argument.
+   * a single {@link String} argument. Alternatively, the data member may be an
+   * {@link Iterator Iterator&lt;String&gt;} or a
+   * {@link Stream Stream&lt;String&gt;}, which are views of the list of
+   * residual arguments returned by the extraction, rather than copies of it;
+   * since all arguments are scanned before residues are set, these save
+   * copying the list, but not building it. Finally, the data member may be a
+   * {@link Path}, set to the single residual argument, if there is one.
    * @author Yossi Gil
    * @since 2011-08-20 */
   @Documented //
@@ -117,13 +154,15 @@ public @interface External {
      *         {@link External} annotation to a <code><b>final</b></code>
      *         field. */
     @NotNull public static List<String> extract(final String[] args, final Object... targets) {
-      return extract(cloneAsList(args), targets);
+      return extract(new Tokens(args), targets);
     }
 
     /** Extract <code>&lt;keyword,value&gt;</code> pairs from a list of
      * arguments, as specified by the {@link External} decorated fields of given
      * object; set these fields, and return the remaining arguments
-     * @param arguments command line arguments
+     * @param arguments command line arguments; the
+     *        <code>&lt;keyword,value&gt;</code> pairs are removed from this
+     *        list
      * @param targets An array of items, each being an instance or a class
      *        object, in which {@link External} specifications are to be found.
      *        The first element is interpreted also as the specifier of the main
@@ -139,9 +178,52 @@ public @interface External {
      *         {@link External} annotation to a <code><b>final</b></code>
      *         field. */
     @NotNull public static List<String> extract(@NotNull final List<String> arguments, @NotNull final Object... targets) {
-      @NotNull final List<String> $ = new Introspector().extractInto(arguments, targets);
-      residue($, targets);
-      return $;
+      @NotNull final List<String> $ = extract(new Tokens(arguments), targets);
+      if ($.size() == arguments.size())
+        return arguments;
+      arguments.clear();
+      arguments.addAll($);
+      return arguments;
+    }
+
+    /** Expand argument files in command line arguments: an argument of the
+     * form <code>@file</code> is replaced by the arguments found in the named
+     * file, which are separated by white space, and may be quoted. An argument
+     * beginning with <code>@@</code> stands for itself, less the first
+     * <code>@</code>.
+     * @param args command line arguments
+     * @return the expanded arguments; the parameter itself if it contains no
+     *         argument files
+     * @throws ArgumentFileUnreadable if an argument file could not be
+     *         read, is not valid UTF-8, or has a quote which is not closed */
+    @NotNull public static String[] expand(@NotNull final String... args) {
+      if (Arrays.stream(args).noneMatch(λ -> λ.startsWith("@")))
+        return args;
+      @NotNull final List<String> $ = new ArrayList<>();
+      for (@NotNull final String ¢ : args)
+        if (!¢.startsWith("@"))
+          $.add(¢);
+        else if (¢.startsWith("@@"))
+          $.add(¢.substring(1));
+        else
+          try {
+            ArgumentFile.read(Paths.get(¢.substring(1)), $);
+          } catch (@NotNull final IOException | IllegalArgumentException e) {
+            // Also thrown for malformed paths, and for unbalanced quotes
+            throw new ArgumentFileUnreadable(¢.substring(1), e);
+          }
+      return $.toArray(new String[$.size()]);
+    }
+
+    @NotNull private static List<String> extract(@NotNull final Tokens ts, @NotNull final Object... targets) {
+      @NotNull final Introspector i = new Introspector();
+      try {
+        @NotNull final List<String> $ = i.extractInto(ts, targets);
+        i.residue($, targets);
+        return $;
+      } finally {
+        i.done(targets);
+      }
     }
 
     /** Generate usage information based on annotations.
@@ -164,7 +246,7 @@ public @interface External {
     @NotNull public static String usage(final Object main, final String usage, @NotNull final Object... targets) {
       @NotNull final StringBuilder $ = new StringBuilder("Usage: java " + fullName(main) + " " + usage + "\n");
       for (final Object target : targets)
-        usage($, target, getClass(target));
+        usage($, target);
       return $ + "";
     }
 
@@ -234,33 +316,18 @@ public @interface External {
     @NotNull public static Map<String, String> toOrderedMap(@NotNull final Object... targets) {
       @NotNull final Map<String, String> $ = new LinkedHashMap<>();
       for (final Object target : targets) {
-        @NotNull final Class<?> c = getClass(target);
-        for (@NotNull final PropertyDescriptor ¢ : descriptors(c))
-          addEntry($, target, ¢);
-        for (@NotNull final Field ¢ : fields(c))
-          addEntry($, target, ¢);
-        for (@NotNull final Method ¢ : getters(c))
-          addEntry($, target, ¢);
+        @NotNull final OptionSchema s = schema(target);
+        addEntries($, target, s.properties);
+        addEntries($, target, s.fields);
+        addEntries($, target, s.getters);
       }
       return $;
     }
 
-    private static void addEntry(@NotNull final Map<String, String> m, final Object target, @NotNull final Field f) {
-      @Nullable final Argument a = Argument.make(f);
-      if (a != null && !m.containsKey(a.name))
-        m.put(a.name, a.asString(a.get(target, f)));
-    }
-
-    private static void addEntry(@NotNull final Map<String, String> s, final Object target, @NotNull final Method m) {
-      @Nullable final Argument a = Argument.make(m);
-      if (a != null && !s.containsKey(a.name))
-        s.put(a.name, a.asString(a.get(target, m)));
-    }
-
-    private static void addEntry(@NotNull final Map<String, String> m, final Object target, @NotNull final PropertyDescriptor d) {
-      @Nullable final Argument a = Argument.make(d);
-      if (a != null && !m.containsKey(a.name))
-        m.put(a.name, a.asString(a.get(target, d)));
+    private static void addEntries(@NotNull final Map<String, String> m, final Object target, @NotNull final List<? extends Accessor> as) {
+      for (@NotNull final Accessor ¢ : as)
+        if (!m.containsKey(¢.argument.name))
+          m.put(¢.argument.name, ¢.asString(target));
     }
 
     /** Convert the settings in the parameter to a {@link Properties} object.
@@ -273,33 +340,106 @@ public @interface External {
     @NotNull public static Properties toProperties(@NotNull final Object... targets) {
       @NotNull final Properties $ = new Properties();
       for (final Object target : targets) {
-        @NotNull final Class<?> c = getClass(target);
-        for (@NotNull final Field ¢ : fields(c))
-          addProperties($, target, ¢);
-        for (@NotNull final PropertyDescriptor ¢ : descriptors(c))
-          addProperties($, target, ¢);
+        @NotNull final OptionSchema s = schema(target);
+        addProperties($, target, s.fields);
+        addProperties($, target, s.properties);
       }
       return $;
     }
 
-    private final List<Error> errors = new ArrayList<>();
+    /** Compute in advance the internal description of the {@link External}
+     * and {@link Residue} members of the parameters, so that the first
+     * extraction does not pay for the reflective examination of their classes.
+     * The description of each class is computed only once, and is then shared
+     * by all threads.
+     * @param targets An array of items, each being an instance or a class
+     *        object, in which {@link External} specifications are to be
+     *        found. */
+    public static void prebuild(@NotNull final Object... targets) {
+      for (final Object ¢ : targets)
+        schema(¢);
+    }
+
+    /** Discard the internal descriptions of all classes computed so far, e.g.,
+     * when classes are to be reloaded by a new class loader. */
+    public static void clearSchemas() {
+      OptionSchema.clear();
+    }
+
+    /** Discard the internal description of a single class.
+     * @param ¢ a class whose description was computed by a previous
+     *        invocation */
+    public static void clearSchema(@NotNull final Class<?> ¢) {
+      OptionSchema.clear(¢);
+    }
+
+    /** Register a converter for the values of options of a given type, or of
+     * arrays, collections and streams of this type, overriding the built in
+     * conversion of such values, including that of primitive types and of
+     * {@link String}. The converter is used by all extractions, and all
+     * {@link Parser}s, from now on.
+     * @param type the class object of this type; options of the types
+     *        <code><b>boolean</b></code> and {@link Boolean} are flags, which
+     *        take no value, and therefore cannot have converters
+     * @param c a converter of values of this type
+     * @throws IllegalArgumentException if the type is that of flags */
+    public static <T> void register(@NotNull final Class<T> type, @NotNull final Converter<? extends T> c) {
+      if (type == boolean.class || type == Boolean.class)
+        throw new IllegalArgumentException(type + ": flags take no value, and cannot be converted");
+      converters.put(type, c);
+      OptionSchema.clear();
+    }
 
-    private static void addProperties(@NotNull final Properties m, final Object target, @NotNull final Field f) {
-      @Nullable final Argument a = Argument.make(f);
-      if (a != null)
-        m.put(a.name, a.asString(a.get(target, f)));
+    /** Restore the built in conversion of values of a given type
+     * @param type a type for which a converter was registered by
+     *        {@link #register(Class, Converter)} */
+    public static void unregister(@NotNull final Class<?> type) {
+      if (converters.remove(type) != null)
+        OptionSchema.clear();
     }
 
-    private static void addProperties(@NotNull final Properties p, final Object target, @NotNull final PropertyDescriptor d) {
-      @Nullable final Argument a = Argument.make(d);
-      if (a != null)
-        p.put(a.name, a.asString(a.get(target, d)));
+    /** Install a listener, which is notified of all extractions that follow,
+     * by all threads.
+     * @param ¢ a listener */
+    public static synchronized void addListener(@NotNull final ParseListener ¢) {
+      @NotNull final ParseListener[] $ = Arrays.copyOf(listeners, listeners.length + 1);
+      $[listeners.length] = ¢;
+      listeners = $;
+      Instrumentation.listening(true);
     }
 
-    @NotNull private static Class<?> getClass(final Object ¢) {
+    /** Uninstall a listener
+     * @param ¢ a listener installed by {@link #addListener(ParseListener)} */
+    public static synchronized void removeListener(@NotNull final ParseListener ¢) {
+      listeners = Arrays.stream(listeners).filter(λ -> λ != ¢).toArray(ParseListener[]::new);
+      Instrumentation.listening(listeners.length > 0);
+    }
+
+    private static final Map<Class<?>, Converter<?>> converters = new ConcurrentHashMap<>();
+    @NotNull private static volatile ParseListener[] listeners = {};
+
+    /** @return the installed listeners, e.g., for the instrumentation of
+     *         extractions made by {@link Parser} and {@link PropertiesBinding} */
+    @NotNull static ParseListener[] listeners() {
+      return listeners;
+    }
+    private final List<Error> errors = new ArrayList<>();
+    /** Measures this extraction, if there are listeners */
+    @Nullable private final Instrumentation instrumentation = Instrumentation.of(listeners);
+
+    private static void addProperties(@NotNull final Properties p, final Object target, @NotNull final List<? extends Accessor> as) {
+      for (@NotNull final Accessor ¢ : as)
+        p.put(¢.argument.name, ¢.asString(target));
+    }
+
+    @NotNull static Class<?> getClass(final Object ¢) {
       return ¢ instanceof Class ? (Class<?>) ¢ : ¢.getClass();
     }
 
+    @NotNull static OptionSchema schema(final Object ¢) {
+      return OptionSchema.of(getClass(¢));
+    }
+
     private static String fullName(final Object ¢) {
       return getClass(¢).getName();
     }
@@ -308,97 +448,68 @@ public @interface External {
       return getClass(¢).getSimpleName();
     }
 
-    private static void usage(@NotNull final StringBuilder b, final Object target, final Class<?> o) {
+    private static void usage(@NotNull final StringBuilder b, final Object target) {
+      @NotNull final OptionSchema s = schema(target);
       try {
-        for (@NotNull final Field ¢ : fields(o))
-          b.append(usage(target, ¢));
-        for (@NotNull final PropertyDescriptor ¢ : descriptors(o))
-          b.append(usage(target, ¢));
+        for (@NotNull final Accessor ¢ : s.fields)
+          b.append(¢.usage(target)).append("\n");
+        for (@NotNull final Accessor ¢ : s.properties)
+          b.append(¢.usage(target)).append("\n");
       } catch (@NotNull final Error ____) {
         // No point in treating any errors while collecting usage
         // information
       }
     }
 
-    @NotNull private static String usage(final Object target, @NotNull final PropertyDescriptor d) {
-      @Nullable final Argument $ = Argument.make(d);
-      return $ == null ? "" : $.usage($.get(target, d)) + "\n";
-    }
-
-    @NotNull private static String usage(final Object target, @NotNull final Field f) {
-      @Nullable final Argument $ = Argument.make(f);
-      return $ == null ? "" : $.usage($.get(target, f)) + "\n";
-    }
-
-    @NotNull private static ArrayList<String> cloneAsList(final String[] args) {
-      return new ArrayList<>(Arrays.asList(args));
-    }
-
-    private static void residue(@NotNull final List<String> arguments, @NotNull final Object[] targets) {
-      for (final Object target : targets)
-        if (!(target instanceof Class))
-          residueIntoInstance(target, arguments);
-        else
-          residueIntoClass(arguments, (Class<?>) target);
-    }
-
-    private static void residueIntoInstance(@NotNull final Object target, @NotNull final List<String> arguments) {
-      for (@NotNull final Field ¢ : fields(target.getClass()))
-        residue(target, ¢, arguments);
+    private void residue(@NotNull final List<String> arguments, @NotNull final Object[] targets) {
+      for (final Object target : targets) {
+        @NotNull final OptionSchema s = schemaOf(target);
+        if (instrumentation != null)
+          instrumentation.enter(ParseListener.Phase.RESIDUE);
+        for (@NotNull final OptionSchema.Residue ¢ : s.residues)
+          try {
+            ¢.set(target, arguments);
+          } catch (@NotNull final Error e) {
+            if (instrumentation != null)
+              instrumentation.failed(target, ¢.name, e);
+            throw e;
+          }
+      }
     }
 
-    private static void residueIntoClass(@NotNull final List<String> arguments, final Class<?> base) {
-      for (Class<?> c = base; c != null; c = c.getSuperclass())
-        for (@NotNull final Field ¢ : c.getDeclaredFields())
-          residue(c, ¢, arguments);
+    @NotNull private OptionSchema schemaOf(final Object target) {
+      return instrumentation == null ? schema(target) : instrumentation.schema(target);
     }
 
-    private static void residue(final Object target, @NotNull final Field f, @NotNull final List<String> arguments) {
-      if (f.getAnnotation(Residue.class) == null)
-        return;
-      @NotNull final Argument a = Argument.makeResidue(f);
-      if (a != null)
-        a.set(f, target, arguments);
+    /** Notify the listeners, if there are any, that this extraction is done
+     * @param targets the targets of this extraction */
+    private void done(@NotNull final Object[] targets) {
+      if (instrumentation != null)
+        instrumentation.done(targets);
     }
 
-    @NotNull private List<String> extractInto(@NotNull final List<String> $, @NotNull final Object... targets) {
+    @NotNull private List<String> extractInto(@NotNull final Tokens ts, @NotNull final Object... targets) {
       for (final Object target : targets)
-        if (!(target instanceof Class))
-          extractIntoInstance(target, $);
-        else
-          extractIntoClass((Class<?>) target, $);
+        extractInto(target, ts);
+      if (instrumentation != null)
+        instrumentation.enter(ParseListener.Phase.MATCHING);
+      @NotNull final List<String> $ = ts.residue();
       check($);
       wrapErrors(targets);
       return $;
     }
 
-    private void extractIntoClass(final Class<?> base, @NotNull final List<String> arguments) {
-      for (@NotNull final PropertyDescriptor ¢ : descriptors(base))
-        extractInto(base, ¢, arguments);
-      for (Class<?> c = base; c != null; c = c.getSuperclass())
-        for (@NotNull final Field ¢ : c.getDeclaredFields())
-          extractInto(c, ¢, arguments);
-    }
-
-    private void extractIntoInstance(@NotNull final Object target, @NotNull final List<String> arguments) {
-      final Class<?> c = target.getClass();
-      for (@NotNull final PropertyDescriptor ¢ : descriptors(c))
-        extractInto(target, ¢, arguments);
-      for (@NotNull final Field ¢ : fields(c))
-        extractInto(target, ¢, arguments);
-    }
-
-    private static PropertyDescriptor[] descriptors(final Class<?> $) {
-      try {
-        return java.beans.Introspector.getBeanInfo($).getPropertyDescriptors();
-      } catch (@NotNull final IntrospectionException ____) { // Ignore errors of
-                                                             // this
-        // sort
-        return new PropertyDescriptor[0];
-      }
+    private void extractInto(final Object target, @NotNull final Tokens ts) {
+      @NotNull final OptionSchema s = schemaOf(target);
+      for (@NotNull final Mutator ¢ : s.properties)
+        extractInto(target, ¢, ts);
+      for (@NotNull final Mutator ¢ : s.fields)
+        extractInto(target, ¢, ts);
     }
 
     private void wrapErrors(final Object... targets) {
+      if (instrumentation != null)
+        instrumentation.enter(null);
       for (@NotNull final Error ¢ : errors)
         System.err.println(¢.getMessage());
       if (errors.isEmpty())
@@ -407,24 +518,27 @@ public @interface External {
       throw errors.get(0);
     }
 
-    private void extractInto(final Object target, @NotNull final Field f, @NotNull final List<String> arguments) {
+    private void extractInto(final Object target, @NotNull final Mutator m, @NotNull final Tokens ts) {
       try {
-        @Nullable final Argument a = Argument.make(f);
-        if (a != null)
-          a.set(f, target, a.extractValue(arguments));
+        if (instrumentation == null)
+          m.set(target, m.argument.extractValue(ts));
+        else
+          instrumentation.set(target, m, ts);
       } catch (@NotNull final Error ¢) {
-        errors.add(¢);
+        error(target, m.argument.name, ¢);
       }
     }
 
-    private void extractInto(final Object target, @NotNull final PropertyDescriptor d, @NotNull final List<String> arguments) {
-      try {
-        @Nullable final Argument a = Argument.make(d);
-        if (a != null)
-          a.set(d, target, a.extractValue(arguments));
-      } catch (@NotNull final Error ¢) {
-        errors.add(¢);
-      }
+    /** Record an error, which is reported, and thrown, once all options
+     * were extracted
+     * @param target where the error was found, or <code><b>null</b></code>
+     *        if it is not an error of any target
+     * @param option the option in error
+     * @param e the error */
+    private void error(@Nullable final Object target, @NotNull final String option, @NotNull final Error e) {
+      errors.add(e);
+      if (instrumentation != null)
+        instrumentation.failed(target, option, e);
     }
 
     /** Parse properties instead of String arguments. Any additional arguments
@@ -446,60 +560,93 @@ public @interface External {
      *         {@link External} annotation to a <code><b>final</b></code>
      *         field. */
     public static void extract(@NotNull final Properties p, @NotNull final Object... targets) {
-      new Introspector().extractInto(p, targets);
-    }
-
-    private void extractInto(@NotNull final Properties p, @NotNull final Object[] targets) {
-      for (final Object target : targets)
-        extractInto(p, target);
-      wrapErrors(targets);
-    }
-
-    private static void extractInto(@NotNull final Properties p, final Object target) {
-      @NotNull final Class<?> c = getClass(target);
-      for (@NotNull final Field ¢ : fields(c))
-        extract(target, ¢, p);
-      for (@NotNull final PropertyDescriptor ¢ : descriptors(c))
-        extract(target, ¢, p);
+      @NotNull final Introspector i = new Introspector();
+      try {
+        i.extractInto(λ -> (String) p.get(λ), targets);
+      } finally {
+        i.done(targets);
+      }
     }
 
-    @NotNull private static List<Field> fields(final Class<?> base) {
-      @NotNull final ArrayList<Field> $ = new ArrayList<>();
-      for (Class<?> ¢ = base; ¢ != null; ¢ = ¢.getSuperclass())
-        Collections.addAll($, ¢.getDeclaredFields());
-      return $;
+    /** Parse text in the format of properties files, as specified by
+     * {@link Properties#load(Reader)}, without loading it into a
+     * {@link Properties} object: the text is scanned once, and only values of
+     * keys which name an option of the targets are kept. Otherwise, this
+     * function is the same as {@link #extract(Properties, Object...)}.
+     * @param r text in the format of properties files
+     * @param targets An array of items, each being an instance or a class
+     *        object, in which {@link External} specifications are to be found.
+     *        The first element is interpreted also as the specifier of the main
+     *        class.
+     * @throws IOException if the text could not be read
+     * @throws Introspector.Argument.ParsingError in case the command line
+     *         arguments could not be parsed successfully, i.e., user provided
+     *         incorrect input.
+     * @throws Introspector.Argument.ReflectionError in case the extracted value
+     *         could not be injected into the its targets, which is typically a
+     *         result of misuse of this package, e.g., applying an
+     *         {@link External} annotation to a <code><b>final</b></code>
+     *         field. */
+    public static void extract(@NotNull final Reader r, @NotNull final Object... targets) throws IOException {
+      @NotNull final Introspector i = new Introspector();
+      try {
+        @NotNull final Set<String> keys = new HashSet<>();
+        for (final Object target : targets)
+          keys(keys, i.schemaOf(target));
+        if (i.instrumentation != null)
+          i.instrumentation.enter(ParseListener.Phase.MATCHING);
+        @NotNull final Map<String, String> $ = new HashMap<>();
+        KeyValues.scan(r, keys::contains, $::put);
+        i.extractInto($::get, targets);
+      } finally {
+        i.done(targets);
+      }
     }
 
-    @NotNull private static List<Method> getters(final Class<?> base) {
-      @NotNull final ArrayList<Method> $ = new ArrayList<>();
-      for (Class<?> c = base; c != null; c = c.getSuperclass())
-        for (@NotNull final Method ¢ : c.getDeclaredMethods())
-          if (isGetter(¢))
-            $.add(¢);
-      return $;
+    /** Add the names and aliases of the options of a schema to a given set */
+    static void keys(@NotNull final Set<String> $, @NotNull final OptionSchema s) {
+      for (@NotNull final List<Mutator> ms : Arrays.asList(s.fields, s.properties))
+        for (@NotNull final Mutator ¢ : ms) {
+          $.add(¢.argument.name);
+          if (¢.argument.alias != null)
+            $.add(¢.argument.alias);
+        }
     }
 
-    private static boolean isGetter(@NotNull final Method ¢) {
-      return ¢.getParameterTypes().length == 0 && ¢.getReturnType() != Void.TYPE;
+    private void extractInto(@NotNull final Function<String, String> values, @NotNull final Object[] targets) {
+      for (final Object target : targets)
+        extractInto(values, target);
+      wrapErrors(targets);
     }
 
-    private static void extract(final Object target, @NotNull final Field f, @NotNull final Properties p) {
-      @Nullable final Argument a = Argument.make(f);
-      if (a != null)
-        a.set(f, target, a.extractValue(p));
+    private void extractInto(@NotNull final Function<String, String> values, final Object target) {
+      @NotNull final OptionSchema s = schemaOf(target);
+      for (@NotNull final Mutator ¢ : s.fields)
+        extractInto(values, target, ¢);
+      for (@NotNull final Mutator ¢ : s.properties)
+        extractInto(values, target, ¢);
     }
 
-    private static void extract(final Object target, @NotNull final PropertyDescriptor d, @NotNull final Properties p) {
-      @Nullable final Argument a = Argument.make(d);
-      if (a != null)
-        a.set(d, target, a.extractValue(p));
+    private void extractInto(@NotNull final Function<String, String> values, final Object target, @NotNull final Mutator m) {
+      if (instrumentation == null) {
+        m.set(target, m.argument.extractValue(values));
+        return;
+      }
+      try {
+        instrumentation.set(target, m, values);
+      } catch (@NotNull final Error ¢) {
+        instrumentation.failed(target, m.argument.name, ¢);
+        throw ¢;
+      }
     }
 
     private void check(@NotNull final List<String> arguments) {
-      errors.addAll(arguments.stream().filter(λ -> λ.startsWith("-")).map(UnrecognizedOption::new).collect(Collectors.toList()));
+      for (@NotNull final String ¢ : arguments)
+        if (¢.startsWith("-"))
+          error(null, ¢, new UnrecognizedOption(¢));
     }
 
-    private abstract static class Error extends RuntimeException {
+    abstract static class Error extends RuntimeException {
       public Error(final String message, final Throwable cause) {
         super(message, cause);
       }
@@ -511,6 +658,30 @@ public @interface External {
       private static final long serialVersionUID = 1;
     }
 
+    public static final class ArgumentFileUnreadable extends Error {
+      ArgumentFileUnreadable(final String file, final Throwable cause) {
+        super(file + ": cannot read argument file", cause);
+      }
+
+      private static final long serialVersionUID = 1;
+    }
+
+    public static final class NotInstantiable extends Error {
+      NotInstantiable(@NotNull final Class<?> c, final Throwable cause) {
+        super(c.getName() + ": cannot be instantiated by an argumentless constructor", cause);
+      }
+
+      private static final long serialVersionUID = 1;
+    }
+
+    public static final class NonSingleResidue extends Error {
+      NonSingleResidue(final String field, final int size) {
+        super(field + ": expects at most one residual argument, found " + size);
+      }
+
+      private static final long serialVersionUID = 1;
+    }
+
     public static final class NonArray extends Error {
       NonArray(final String field) {
         super(field + ": is not an array type");
@@ -545,28 +716,67 @@ public @interface External {
       public final String alias;
       private final String description;
       private final String delimiter;
-      private static final String PREFIX = "-";
+      static final String PREFIX = "-";
       public final Class<?> type;
+      /** The type of a single value of this argument, i.e., the component type
+       * of array arguments, the element type of {@link List} and {@link Set}
+       * arguments, the primitive type of {@link IntStream} and
+       * {@link LongStream} arguments, and {@link #type} otherwise */
+      final Class<?> scalar;
+      /** Converter of single values into the {@link #scalar} type, computed on
+       * first use */
+      @Nullable private volatile Converter<?> converter;
+      /** The text from which each value of an {@link IntStream} or
+       * {@link LongStream} argument was converted, for as long as the stream
+       * is reachable, or <code><b>null</b></code> for arguments of other
+       * types; streams do not override {@link Object#equals(Object)} */
+      @Nullable private final Map<BaseStream<?, ?>, String> sources;
 
       @Nullable static Argument make(@NotNull final Field ¢) {
-        return make(¢.getAnnotation(External.class), ¢.getName(), ¢.getType());
+        return make(¢.getAnnotation(External.class), ¢.getName(), ¢.getType(), ¢.getGenericType());
       }
 
       @Nullable static Argument make(@NotNull final Method ¢) {
-        return make(¢.getAnnotation(External.class), ¢.getName(), ¢.getReturnType());
+        return make(¢.getAnnotation(External.class), ¢.getName(), ¢.getReturnType(), ¢.getGenericReturnType());
       }
 
-      @NotNull static Argument makeResidue(@NotNull final Field ¢) {
-        if (¢.getType().getComponentType() == null)
-          throw new NonArray(¢.getName());
-        return new Argument(¢.getName(), ¢.getType());
+      /** @param type an array type, or any of the other types which
+       *        {@link External.Residue} members may have */
+      @NotNull static Argument makeResidue(@NotNull final String name, @NotNull final Class<?> type) {
+        return new Argument(name, type);
       }
 
       @NotNull String asString(final Object ¢) {
-        return !type.isArray() ? ¢ + "" : arrayValue((Object[]) ¢);
+        return ¢ instanceof Collection ? collectionValue((Collection<?>) ¢)
+            : ¢ instanceof BaseStream ? streamValue((BaseStream<?, ?>) ¢) : !type.isArray() ? ¢ + "" : arrayValue(¢);
       }
 
-      @NotNull private String arrayValue(@NotNull final Object[] os) {
+      /** @return the text from which a stream was converted, since the stream
+       *         itself cannot be traversed without consuming it; a stream
+       *         which was not converted from text, e.g., a default value, is
+       *         shown by its type only */
+      @NotNull private String streamValue(@NotNull final BaseStream<?, ?> ¢) {
+        @Nullable final String $ = sources == null ? null : sources.get(¢);
+        return $ != null ? $ : "<" + type.getSimpleName() + ">";
+      }
+
+      /** @return the parameter, whose text is recorded for
+       *         {@link #streamValue(BaseStream)} */
+      @NotNull private <S extends BaseStream<?, ?>> S recorded(@NotNull final S $, @NotNull final String text) {
+        if (sources != null)
+          sources.put($, text);
+        return $;
+      }
+
+      @NotNull private String arrayValue(@NotNull final Object array) {
+        @NotNull final StringBuilder $ = new StringBuilder();
+        final int length = Array.getLength(array);
+        for (int ¢ = 0; ¢ < length; ++¢)
+          $.append(¢ == 0 ? "" : delimiter).append(Array.get(array, ¢));
+        return $ + "";
+      }
+
+      @NotNull private String collectionValue(@NotNull final Collection<?> os) {
         @NotNull final StringBuilder $ = new StringBuilder();
         for (final Object ¢ : os)
           $.append($.length() == 0 ? "" : delimiter).append(¢);
@@ -575,20 +785,26 @@ public @interface External {
 
       static Argument make(@NotNull final PropertyDescriptor ¢) {
         final Method $ = ¢.getWriteMethod();
-        return $ == null ? null : Argument.make($.getAnnotation(External.class), ¢.getName(), ¢.getPropertyType());
+        return $ == null ? null
+            : Argument.make($.getAnnotation(External.class), ¢.getName(), ¢.getPropertyType(), $.getGenericParameterTypes()[0]);
       }
 
-      @Nullable static Argument make(@Nullable final External x, final String name, final Class<?> type) {
-        return x == null ? null : new Argument(x, name, type);
+      @Nullable static Argument make(@Nullable final External x, final String name, final Class<?> type, final Type generic) {
+        return x == null ? null : new Argument(x, name, type, generic);
+      }
+
+      @NotNull static Argument make(final String name, final Class<?> type, final String alias, final boolean required, final String description,
+          final String delimiter) {
+        return new Argument(name, type, type, alias, required, description, delimiter);
       }
 
       private Argument(final String name, final Class<?> type) {
-        this(name, type, null, false, null, null);
+        this(name, type, type, null, false, null, null);
       }
 
-      private Argument(@NotNull final External a, final String defaultName, final Class<?> type) {
+      private Argument(@NotNull final External a, final String defaultName, final Class<?> type, final Type generic) {
         this(defaultsTo(a.name(), defaultName), //
-            type, defaultsTo(a.alias(), null), //
+            type, generic, defaultsTo(a.alias(), null), //
             a.required(), //
             a.value() + a.description(), //
             a.delimiter());
@@ -598,52 +814,75 @@ public @interface External {
         return !empty(value) ? value : defaultValue;
       }
 
-      private Argument(final String name, final Class<?> type, final String alias, final boolean required, final String description,
-          final String delimiter) {
+      private Argument(final String name, final Class<?> type, final Type generic, final String alias, final boolean required,
+          final String description, final String delimiter) {
         this.type = type;
+        scalar = scalar(type, generic);
         mandatory = required;
         this.alias = alias;
         this.description = description;
         this.delimiter = delimiter;
         this.name = name;
+        sources = type != IntStream.class && type != LongStream.class ? null : Collections.synchronizedMap(new WeakHashMap<>());
       }
 
-      private Iterator<String> find(@NotNull final List<String> arguments) {
-        for (@NotNull final Iterator<String> $ = arguments.iterator(); $.hasNext();)
-          if (equals($.next()))
-            return $;
-        return null;
+      @NotNull private static Class<?> scalar(@NotNull final Class<?> type, final Type generic) {
+        if (type.isArray())
+          return type.getComponentType();
+        if (type == IntStream.class)
+          return int.class;
+        if (type == LongStream.class)
+          return long.class;
+        if (!isCollection(type))
+          return type;
+        if (!(generic instanceof ParameterizedType))
+          return String.class;
+        final Type $ = ((ParameterizedType) generic).getActualTypeArguments()[0];
+        return $ instanceof Class ? (Class<?>) $ : $ instanceof ParameterizedType ? (Class<?>) ((ParameterizedType) $).getRawType() : Object.class;
       }
 
-      @NotNull String extractValue(@NotNull final Properties ¢) {
-        return ¢.get(name) != null ? (String) ¢.get(name) : alias != null ? (String) ¢.get(alias) : checkRequired();
+      private static boolean isCollection(final Class<?> ¢) {
+        return ¢ == List.class || ¢ == Set.class || ¢ == Collection.class;
       }
 
-      @Nullable String extractValue(@NotNull final List<String> arguments) {
-        @Nullable final Iterator<String> $ = find(arguments);
-        if ($ == null)
-          return checkRequired();
-        $.remove();
-        if (find(arguments) != null)
-          throw new DuplicateOption();
-        return extractValue($);
+      /** @return whether a value of this argument is a delimited sequence of
+       *         values of its {@link #scalar} type */
+      boolean isMultiValued() {
+        return type.isArray() || isCollection(type) || type == IntStream.class || type == LongStream.class;
+      }
+
+      /** @param values a mapping of keys to their values, e.g., the contents
+       *        of a {@link Properties} object */
+      @Nullable String extractValue(@NotNull final Function<String, String> values) {
+        @Nullable final String $ = lookup(values);
+        return $ != null ? $ : checkRequired();
       }
 
-      private boolean equals(@NotNull final String text) {
-        if (!text.startsWith(PREFIX))
-          return false;
-        @NotNull final String $ = text.substring(PREFIX.length());
-        return $.equals(name) || alias != null && $.equals(alias);
+      /** @return the value of this argument, by its name or else by its alias,
+       *         or <code><b>null</b></code> if it has none */
+      @Nullable String lookup(@NotNull final Function<String, String> values) {
+        @Nullable final String $ = values.apply(name);
+        return $ != null || alias == null ? $ : values.apply(alias);
       }
 
-      private String extractValue(@NotNull final Iterator<String> ¢) {
+      @Nullable String extractValue(@NotNull final Tokens ts) {
+        final int $ = ts.find(name, alias);
+        if ($ < 0)
+          return checkRequired();
+        ts.consume($);
+        if (ts.find(name, alias) >= 0)
+          throw new DuplicateOption();
+        return extractValue(ts, $);
+      }
+
+      private String extractValue(@NotNull final Tokens ts, final int position) {
         if (isBoolean())
           return "true";
-        if (!¢.hasNext())
+        final int $ = ts.next(position);
+        if ($ < 0)
           throw new MissingValueForOption();
-        final String $ = ¢.next();
-        ¢.remove();
-        return $;
+        ts.consume($);
+        return ts.get($);
       }
 
       @Nullable String checkRequired() {
@@ -657,12 +896,7 @@ public @interface External {
           set(f, target, asObject(value));
       }
 
-      void set(@NotNull final Field f, final Object target, @NotNull final List<String> values) {
-        set(f, target, asArrayObject(type.getComponentType(), values));
-      }
-
       void set(@NotNull final Field f, final Object target, @NotNull final Object value) {
-        f.setAccessible(true);
         try {
           f.set(target, value);
         } catch (@NotNull final ExceptionInInitializerError ¢) {
@@ -680,7 +914,7 @@ public @interface External {
           set(d, target, asObject(value));
       }
 
-      private void set(@NotNull final PropertyDescriptor d, final Object target, final Object value) {
+      void set(@NotNull final PropertyDescriptor d, final Object target, final Object value) {
         try {
           d.getWriteMethod().invoke(target, value);
         } catch (@NotNull final InvocationTargetException ¢) {
@@ -702,7 +936,6 @@ public @interface External {
       }
 
       Object get(final Object $, @NotNull final Method m) {
-        m.setAccessible(true);
         try {
           return m.invoke($, (Object[]) null);
         } catch (@NotNull final Exception ¢) {
@@ -711,7 +944,6 @@ public @interface External {
       }
 
       Object get(final Object $, @NotNull final Field f) {
-        f.setAccessible(true);
         try {
           return f.get($);
         } catch (@NotNull final Throwable ¢) {
@@ -723,117 +955,213 @@ public @interface External {
         return ¢ == null || "".equals(¢);
       }
 
-      @Nullable private Object asObject(@NotNull final String value) {
+      @Nullable Object asObject(@NotNull final String value) {
         return isBoolean() ? Boolean.TRUE
-            : type == String.class ? value : !type.isArray() ? instantiate(type, value) : asArrayObject(type.getComponentType(), value);
+            : type == String.class && !registered() ? value
+                : type.isArray() ? asArrayObject(value) : !isMultiValued() ? instantiate(value) : asMultipleValues(value);
       }
 
-      private boolean isBoolean() {
+      boolean isBoolean() {
         return type == Boolean.class || type == Boolean.TYPE;
       }
 
-      @Nullable private Object asArrayObject(@NotNull final Class<?> c, @NotNull final String value) {
-        @NotNull final String[] strings = value.split(delimiter);
-        if (c.isPrimitive())
-          return asPrimitivesArrayObject(c, strings);
-        if (c == String.class)
+      /** @return whether a converter was registered for the {@link #scalar}
+       *         type of this argument, which then takes precedence over any
+       *         built in conversion */
+      boolean registered() {
+        return converters.containsKey(scalar);
+      }
+
+      @Nullable private Object asArrayObject(@NotNull final String value) {
+        @NotNull final Delimited d = new Delimited(value, delimiter);
+        final boolean registered = registered();
+        if (scalar.isPrimitive() && !registered)
+          return asPrimitivesArrayObject(d);
+        @NotNull final String[] strings = d.strings();
+        if (scalar == String.class && !registered)
           return strings;
-        @NotNull final Object[] $ = (Object[]) Array.newInstance(c, strings.length);
-        for (int ¢ = 0; ¢ < $.length; ++¢)
-          $[¢] = instantiate(c, strings[¢]);
+        @NotNull final Object $ = Array.newInstance(scalar, strings.length);
+        for (int ¢ = 0; ¢ < strings.length; ++¢)
+          Array.set($, ¢, instantiate(strings[¢]));
         return $;
       }
 
-      private Object asPrimitivesArrayObject(@NotNull final Class<?> c, @NotNull final String[] ss) {
-        if (c == byte.class) {
-          @NotNull final byte[] $ = (byte[]) Array.newInstance(c, ss.length);
-          for (int ¢ = 0; ¢ < $.length; ++¢)
-            $[¢] = ((Byte) instantiate(c, ss[¢])).byteValue();
-          return $;
-        }
-        if (c == short.class) {
-          @NotNull final short[] $ = (short[]) Array.newInstance(c, ss.length);
-          for (int ¢ = 0; ¢ < $.length; ++¢)
-            $[¢] = ((Short) instantiate(c, ss[¢])).shortValue();
-          return $;
-        }
-        if (c == int.class) {
-          @NotNull final int[] $ = (int[]) Array.newInstance(c, ss.length);
-          for (int ¢ = 0; ¢ < $.length; ++¢)
-            $[¢] = ((Integer) instantiate(c, ss[¢])).intValue();
-          return $;
-        }
-        if (c == long.class) {
-          @NotNull final long[] $ = (long[]) Array.newInstance(c, ss.length);
-          for (int ¢ = 0; ¢ < $.length; ++¢)
-            $[¢] = ((Long) instantiate(c, ss[¢])).longValue();
-          return $;
-        }
-        if (c == float.class) {
-          @NotNull final float[] $ = (float[]) Array.newInstance(c, ss.length);
-          for (int ¢ = 0; ¢ < $.length; ++¢)
-            $[¢] = ((Float) instantiate(c, ss[¢])).floatValue();
-          return $;
+      private Object asPrimitivesArrayObject(@NotNull final Delimited d) {
+        try {
+          return scalar == byte.class ? d.bytes()
+              : scalar == short.class ? d.shorts()
+                  : scalar == int.class ? d.ints()
+                      : scalar == long.class ? d.longs() : scalar == float.class ? d.floats() : scalar == double.class ? d.doubles() : null;
+        } catch (@NotNull final Delimited.Malformed ¢) {
+          throw new NumericParsingError(¢);
         }
-        if (c != double.class)
-          return null;
-        @NotNull final double[] $ = (double[]) Array.newInstance(c, ss.length);
-        for (int ¢ = 0; ¢ < $.length; ++¢)
-          $[¢] = ((Double) instantiate(c, ss[¢])).doubleValue();
+      }
+
+      /** Convert the value of a {@link List}, {@link Set}, {@link IntStream}
+       * or {@link LongStream} argument. The values of a stream are parsed as
+       * it is consumed, and may then throw a {@link NumericParsingError}. */
+      @NotNull private Object asMultipleValues(@NotNull final String value) {
+        @NotNull final Delimited d = new Delimited(value, delimiter);
+        final boolean registered = registered();
+        if (type == IntStream.class)
+          return recorded(
+              !registered ? d.intStream(NumericParsingError::new) : Arrays.stream(d.strings()).mapToInt(λ -> ((Number) instantiate(λ)).intValue()),
+              value);
+        if (type == LongStream.class)
+          return recorded(!registered ? d.longStream(NumericParsingError::new)
+              : Arrays.stream(d.strings()).mapToLong(λ -> ((Number) instantiate(λ)).longValue()), value);
+        @NotNull final Collection<Object> $ = type == Set.class ? new LinkedHashSet<>() : new ArrayList<>();
+        if (registered || scalar != Integer.class && scalar != Long.class)
+          for (@NotNull final String ¢ : d.strings())
+            $.add(scalar == String.class && !registered ? ¢ : instantiate(¢));
+        else
+          try {
+            if (scalar == Integer.class)
+              for (final int ¢ : d.ints())
+                $.add(Integer.valueOf(¢));
+            else
+              for (final long ¢ : d.longs())
+                $.add(Long.valueOf(¢));
+          } catch (@NotNull final Delimited.Malformed ¢) {
+            throw new NumericParsingError(¢);
+          }
         return $;
       }
 
-      @NotNull private Object asArrayObject(@NotNull final Class<?> c, @NotNull final List<String> values) {
-        @NotNull final Object[] $ = (Object[]) Array.newInstance(c, values.size());
+      @NotNull Object asArrayObject(@NotNull final List<String> values) {
+        @NotNull final Object[] $ = (Object[]) Array.newInstance(scalar, values.size());
         for (int ¢ = 0; ¢ < $.length; ++¢)
-          $[¢] = instantiate(c, values.get(¢));
+          $[¢] = instantiate(values.get(¢));
         return $;
       }
 
-      private Object instantiate(@NotNull final Class<?> $, @NotNull final String value) {
+      byte asByte(@NotNull final String value) {
         try {
-          if ($ == byte.class)
-            return Byte.valueOf(value);
-          if ($ == short.class)
-            return Short.valueOf(value);
-          if ($ == int.class)
-            return Integer.valueOf(value);
-          if ($ == long.class)
-            return Long.valueOf(value);
-          if ($ == double.class)
-            return Double.valueOf(value);
-          if ($ == float.class)
-            return Float.valueOf(value);
+          return Byte.parseByte(value);
         } catch (@NotNull final NumberFormatException ¢) {
           throw new NumericParsingError(value, ¢);
         }
-        return $.isEnum() ? findEnum($, value) : instantiate(getStringConstructor($), value);
       }
 
-      private Object findEnum(@NotNull final Class<?> $, final String value) {
+      short asShort(@NotNull final String value) {
         try {
-          return $.getDeclaredMethod("valueOf", String.class).invoke(null, value);
-        } catch (@NotNull final InvocationTargetException e) {
-          throw new InvalidEnumValue(value);
-        } catch (@NotNull final Exception ¢) {
-          throw new RuntimeException(¢);
+          return Short.parseShort(value);
+        } catch (@NotNull final NumberFormatException ¢) {
+          throw new NumericParsingError(value, ¢);
+        }
+      }
+
+      int asInt(@NotNull final String value) {
+        try {
+          return Integer.parseInt(value);
+        } catch (@NotNull final NumberFormatException ¢) {
+          throw new NumericParsingError(value, ¢);
+        }
+      }
+
+      long asLong(@NotNull final String value) {
+        try {
+          return Long.parseLong(value);
+        } catch (@NotNull final NumberFormatException ¢) {
+          throw new NumericParsingError(value, ¢);
+        }
+      }
+
+      float asFloat(@NotNull final String value) {
+        try {
+          return Float.parseFloat(value);
+        } catch (@NotNull final NumberFormatException ¢) {
+          throw new NumericParsingError(value, ¢);
+        }
+      }
+
+      double asDouble(@NotNull final String value) {
+        try {
+          return Double.parseDouble(value);
+        } catch (@NotNull final NumberFormatException ¢) {
+          throw new NumericParsingError(value, ¢);
         }
       }
 
-      private Object instantiate(@NotNull final Constructor<?> $, final String value) {
+      /** Convert a single value into the {@link #scalar} type of this
+       * argument */
+      private Object instantiate(@NotNull final String value) {
         try {
-          return $.newInstance(value);
+          return converter().convert(value);
+        } catch (@NotNull final Introspector.Error ¢) {
+          throw ¢;
         } catch (@NotNull final Exception ¢) {
-          throw new FieldConversionError($, value, ¢);
+          throw new FieldConversionError(scalar, value, ¢);
         }
       }
 
-      private Constructor<?> getStringConstructor(@NotNull final Class<?> $) {
+      @NotNull private Converter<?> converter() {
+        @Nullable final Converter<?> $ = converter;
+        return $ != null ? $ : (converter = converter(scalar));
+      }
+
+      @NotNull private Converter<?> converter(@NotNull final Class<?> $) {
+        @Nullable final Converter<?> registered = converters.get($);
+        if (registered != null)
+          return registered;
+        if ($ == byte.class)
+          return this::asByte;
+        if ($ == short.class)
+          return this::asShort;
+        if ($ == int.class)
+          return this::asInt;
+        if ($ == long.class)
+          return this::asLong;
+        if ($ == float.class)
+          return this::asFloat;
+        if ($ == double.class)
+          return this::asDouble;
+        if ($ == String.class)
+          return λ -> λ;
+        if ($ == Path.class)
+          return λ -> Paths.get(λ);
+        return $.isEnum() ? enumConverter($) : constructorConverter($);
+      }
+
+      @NotNull private Converter<?> enumConverter(@NotNull final Class<?> c) {
+        @NotNull final Map<String, Object> constants = new HashMap<>();
+        Instrumentation.lookup();
+        for (final Object ¢ : c.getEnumConstants())
+          constants.put(((Enum<?>) ¢).name(), ¢);
+        return λ -> {
+          @Nullable final Object $ = constants.get(λ);
+          if ($ == null)
+            throw new InvalidEnumValue(λ);
+          return $;
+        };
+      }
+
+      @NotNull private Converter<?> constructorConverter(@NotNull final Class<?> c) {
+        final Constructor<?> $;
         try {
-          return $.getDeclaredConstructor(String.class);
+          Instrumentation.lookup();
+          $ = c.getDeclaredConstructor(String.class);
         } catch (@NotNull final NoSuchMethodException ¢) {
-          throw new ConstructorWithSingleStringArgumentMissing($, ¢);
+          return λ -> {
+            throw new ConstructorWithSingleStringArgumentMissing(c, ¢);
+          };
+        }
+        final MethodHandle h;
+        try {
+          Instrumentation.lookup();
+          h = MethodHandles.lookup().unreflectConstructor($).asType(MethodType.methodType(Object.class, String.class));
+        } catch (@NotNull final IllegalAccessException ¢) {
+          return λ -> {
+            throw new FieldConversionError($, λ, ¢);
+          };
         }
+        return λ -> {
+          try {
+            return h.invokeExact(λ);
+          } catch (@NotNull final Throwable ¢) {
+            throw new FieldConversionError($, λ, ¢);
+          }
+        };
       }
 
       @NotNull String usage(@Nullable final Object defaultValue) {
@@ -843,7 +1171,9 @@ public @interface External {
           $.append(defaultValue);
         else {
           $.append(" (");
-          if (!type.isArray())
+          if (defaultValue instanceof BaseStream)
+            $.append(asString(defaultValue));
+          else if (!type.isArray())
             $.append(defaultValue);
           else {
             @NotNull final List<Object> list = new ArrayList<>();
@@ -871,9 +1201,9 @@ public @interface External {
           }
           return $ + "";
         }
-        if (!type.isArray())
+        if (!isMultiValued())
           return shortName(type);
-        @NotNull final String componentName = shortName(type.getComponentType());
+        @NotNull final String componentName = shortName(scalar);
         @NotNull final StringBuilder $ = new StringBuilder(componentName);
         $.append(" (").append(delimiter).append(componentName).append(")*");
         return $ + "";
@@ -936,7 +1266,11 @@ public @interface External {
 
       public class FieldUnreadable extends ReflectionError {
         public FieldUnreadable(final Field f, final Throwable e) {
-          super("Cannot read content of field " + f, e);
+          this(f + "", e);
+        }
+
+        public FieldUnreadable(final String field, final Throwable e) {
+          super("Cannot read content of field " + field, e);
         }
 
         private static final long serialVersionUID = 1;
@@ -968,7 +1302,11 @@ public @interface External {
 
       class FieldInitializationError extends ReflectionError {
         public FieldInitializationError(final Field f, @NotNull final Object value, final ExceptionInInitializerError e) {
-          super("cannot set field " + f + " to '" + value + "' " + shortName(value.getClass()), e);
+          this(f + "", value, e);
+        }
+
+        public FieldInitializationError(final String field, @NotNull final Object value, final ExceptionInInitializerError e) {
+          super("cannot set field " + field + " to '" + value + "' " + shortName(value.getClass()), e);
         }
 
         private static final long serialVersionUID = 1;
@@ -987,6 +1325,10 @@ public @interface External {
           super("error parsing value '" + value + "'", e);
         }
 
+        public NumericParsingError(@NotNull final Delimited.Malformed e) {
+          super("error parsing value '" + e.token + "' at position " + e.position, e);
+        }
+
         private static final long serialVersionUID = 1;
       }
 
@@ -999,19 +1341,31 @@ public @interface External {
       }
 
       class FieldConversionError extends ReflectionError {
-        public FieldConversionError(@NotNull final Constructor<?> c, final String value, final Exception e) {
-          super("'" + value + "' could not be converted into " + shortName(c.getDeclaringClass()), e);
+        public FieldConversionError(@NotNull final Constructor<?> c, final String value, final Throwable e) {
+          this(c.getDeclaringClass(), value, e);
+        }
+
+        public FieldConversionError(@NotNull final Class<?> c, final String value, final Throwable e) {
+          super("'" + value + "' could not be converted into " + shortName(c), e);
         }
 
-        public FieldConversionError(@NotNull final PropertyDescriptor p, final Object value, final InvocationTargetException e) {
-          super("'" + value + "' could not be assigned into " + p.getName(), e);
+        public FieldConversionError(@NotNull final PropertyDescriptor p, final Object value, final Throwable e) {
+          this(p.getName(), value, e);
         }
 
-        public FieldConversionError(@NotNull final PropertyDescriptor p, final Exception e) {
-          super("property '" + p.getName() + "' could not be read", e);
+        public FieldConversionError(final String property, final Object value, final Throwable e) {
+          super("'" + value + "' could not be assigned into " + property, e);
         }
 
-        public FieldConversionError(@NotNull final Method m, final Exception e) {
+        public FieldConversionError(@NotNull final PropertyDescriptor p, final Throwable e) {
+          this(p.getName(), e);
+        }
+
+        public FieldConversionError(final String property, final Throwable e) {
+          super("property '" + property + "' could not be read", e);
+        }
+
+        public FieldConversionError(@NotNull final Method m, final Throwable e) {
           super("method '" + m.getName() + "' could not be invoked " + e, e);
         }
 
@@ -1020,7 +1374,11 @@ public @interface External {
 
       class WrongTarget extends ReflectionError {
         public WrongTarget(final Field f, final Object value, final Exception e) {
-          super(f + ": could not be assigned value '" + value + "'; try using an instance rather than a class object", e);
+          this(f + "", value, e);
+        }
+
+        public WrongTarget(final String field, final Object value, final Exception e) {
+          super(field + ": could not be assigned value '" + value + "'; try using an instance rather than a class object", e);
         }
 
         private static final long serialVersionUID = 1;
@@ -0,0 +1,98 @@
+package il.org.spartan.external;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/** The interface of classes generated, at compile time, by the annotation
+ * processor of the <code>cli-processor</code> module. For every class
+ * <code>C</code> with {@link External} or {@link External.Residue} members,
+ * the processor generates a class named <code>C$ExternalParser</code>, in the
+ * package of <code>C</code>, which describes these members and accesses them
+ * directly. The {@link External.Introspector} uses this class, when it is
+ * found, instead of examining <code>C</code> by reflection.
+ * <p>
+ * Function {@link #describe(Members)} reports the members in the order in
+ * which the reflective examination would have found them: setter based
+ * properties, sorted by name; then fields; then getter methods, where the
+ * members of a class precede those of its super class. Members which the
+ * generated code cannot access, e.g., <code><b>private</b></code> ones, are
+ * reported by name only, and are then accessed by reflection.
+ * @since 2026-10-16 */
+public interface ExternalParser {
+  /** @param ¢ receives the description of each member of the class */
+  void describe(@NotNull Members ¢);
+
+  /** Receives the description of the members of a class. Names and aliases
+   * are those of the option, i.e., after applying
+   * {@link External#name()} and {@link External#alias()}; an absent alias is
+   * <code><b>null</b></code>. */
+  interface Members {
+    void property(@NotNull String name, @Nullable String alias, boolean required, @NotNull String description, @NotNull String delimiter,
+        @NotNull Class<?> type, @Nullable Getter g, @NotNull Setter s);
+
+    void field(@NotNull String name, @Nullable String alias, boolean required, @NotNull String description, @NotNull String delimiter,
+        @NotNull Class<?> type, @NotNull Getter g, @NotNull Setter s);
+
+    /** A field which is accessed by reflection
+     * @param declaring the class declaring the field
+     * @param field the name of the field */
+    void field(@NotNull Class<?> declaring, @NotNull String field);
+
+    void getter(@NotNull String name, @Nullable String alias, boolean required, @NotNull String description, @NotNull String delimiter,
+        @NotNull Class<?> type, @NotNull Getter g);
+
+    /** An argumentless method which is accessed by reflection
+     * @param declaring the class declaring the method
+     * @param method the name of the method */
+    void getter(@NotNull Class<?> declaring, @NotNull String method);
+
+    void residue(@NotNull String name, @NotNull Class<?> type, @NotNull Setter s);
+
+    /** A {@link External.Residue} field which is accessed by reflection
+     * @param declaring the class declaring the field
+     * @param field the name of the field */
+    void residue(@NotNull Class<?> declaring, @NotNull String field);
+  }
+
+  /** Reads a member of a given target */
+  @FunctionalInterface interface Getter {
+    Object get(Object target);
+  }
+
+  /** Writes a converted value into a member of a given target. Setters of
+   * members of a primitive type also override the method which writes values
+   * of this type, e.g., {@link #setInt(Object, int)}, so that converted values
+   * are written without being boxed; by default, these methods box their
+   * value, and pass it to {@link #set(Object, Object)}. */
+  @FunctionalInterface interface Setter {
+    void set(Object target, Object value);
+
+    default void setBoolean(final Object target, final boolean value) {
+      set(target, Boolean.valueOf(value));
+    }
+
+    default void setByte(final Object target, final byte value) {
+      set(target, Byte.valueOf(value));
+    }
+
+    default void setShort(final Object target, final short value) {
+      set(target, Short.valueOf(value));
+    }
+
+    default void setInt(final Object target, final int value) {
+      set(target, Integer.valueOf(value));
+    }
+
+    default void setLong(final Object target, final long value) {
+      set(target, Long.valueOf(value));
+    }
+
+    default void setFloat(final Object target, final float value) {
+      set(target, Float.valueOf(value));
+    }
+
+    default void setDouble(final Object target, final double value) {
+      set(target, Double.valueOf(value));
+    }
+  }
+}
@@ -0,0 +1,161 @@
+package il.org.spartan.external;
+
+import java.util.function.Function;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import il.org.spartan.external.External.Introspector;
+import il.org.spartan.external.OptionSchema.Mutator;
+import il.org.spartan.external.ParseListener.Failure;
+import il.org.spartan.external.ParseListener.Phase;
+import il.org.spartan.external.ParseListener.Statistics;
+
+/** Measures a single extraction, on behalf of the installed
+ * {@link ParseListener}s. An extraction is made of a sequence of phases; the
+ * time between two consecutive calls to {@link #enter(Phase)} is charged to
+ * the phase entered by the first of these.
+ * <p>
+ * Values are written by the same, primitive specialized, injectors of
+ * {@link OptionSchema} which write them when there are no listeners; these
+ * injectors tell the instrumentation when conversion ends, and injection
+ * begins.
+ * @since 2026-10-16 */
+final class Instrumentation {
+  /** Whether there are listeners, and hence instrumented extractions */
+  private static volatile boolean listening;
+  /** The instrumented extraction in progress in each thread, if any */
+  private static final ThreadLocal<Instrumentation> current = new ThreadLocal<>();
+
+  /** @param ¢ whether there are installed listeners */
+  static void listening(final boolean ¢) {
+    listening = ¢;
+  }
+
+  /** Count a reflective lookup made by the current thread, if it is in the
+   * midst of an instrumented extraction. A class is discovered only once, by
+   * the first thread to need it; lookups made by threads racing to discover
+   * the same class are counted by each of these. */
+  static void lookup() {
+    if (!listening)
+      return;
+    @Nullable final Instrumentation $ = current.get();
+    if ($ != null)
+      ++$.lookups;
+  }
+
+  /** @param listeners the installed listeners
+   * @return an instrumentation of a new extraction, or
+   *         <code><b>null</b></code> if there are no listeners; an
+   *         instrumentation must be {@linkplain #done(Object[]) done} by the
+   *         thread which made it */
+  @Nullable static Instrumentation of(@NotNull final ParseListener[] listeners) {
+    return listeners.length == 0 ? null : new Instrumentation(listeners);
+  }
+
+  @NotNull private final ParseListener[] listeners;
+  @NotNull private final long[] nanos = new long[Phase.values().length];
+  /** The instrumented extraction which was in progress in this thread when
+   * this one began, e.g., by a listener */
+  @Nullable private final Instrumentation outer = current.get();
+  private int lookups;
+  /** The phase in progress, or <code><b>null</b></code> if time is not
+   * charged to any phase */
+  @Nullable private Phase phase;
+  private long mark;
+  private int matched;
+  private int converted;
+  private int errors;
+
+  private Instrumentation(@NotNull final ParseListener[] listeners) {
+    this.listeners = listeners;
+    current.set(this);
+    for (@NotNull final ParseListener ¢ : listeners)
+      ¢.started();
+  }
+
+  /** Start a new phase, ending the one in progress.
+   * @param ¢ the new phase, or <code><b>null</b></code> if the time that
+   *        follows is not to be charged to any phase */
+  void enter(@Nullable final Phase ¢) {
+    if (¢ == phase)
+      return;
+    final long now = System.nanoTime();
+    if (phase != null)
+      nanos[phase.ordinal()] += now - mark;
+    phase = ¢;
+    mark = now;
+  }
+
+  @NotNull OptionSchema schema(final Object target) {
+    enter(Phase.DISCOVERY);
+    return Introspector.schema(target);
+  }
+
+  void set(final Object target, @NotNull final Mutator m, @NotNull final Tokens ts) {
+    enter(Phase.MATCHING);
+    set(target, m, m.argument.extractValue(ts));
+  }
+
+  void set(final Object target, @NotNull final Mutator m, @NotNull final Function<String, String> values) {
+    enter(Phase.MATCHING);
+    set(target, m, m.argument.extractValue(values));
+  }
+
+  /** Write a value by the same code which writes it when there are no
+   * listeners, which tells this instrumentation, by {@link #injecting()}, when
+   * conversion is done */
+  void set(final Object target, @NotNull final Mutator m, @Nullable final String value) {
+    if (value == null)
+      return;
+    ++matched;
+    enter(Phase.CONVERSION);
+    m.set(target, value, this);
+  }
+
+  /** Convert a value which is to be written by the caller, e.g., into a
+   * {@link Parser.Result}, or by {@link Mutator#assign(Object, Object)} */
+  Object convert(@NotNull final Mutator m, @NotNull final String value) {
+    ++matched;
+    enter(Phase.CONVERSION);
+    final Object $ = m.argument.asObject(value);
+    injecting();
+    return $;
+  }
+
+  /** @param ¢ the instrumentation of an extraction, or
+   *        <code><b>null</b></code> if it is not instrumented */
+  static void injecting(@Nullable final Instrumentation ¢) {
+    if (¢ != null)
+      ¢.injecting();
+  }
+
+  /** A value was converted, and is about to be written */
+  private void injecting() {
+    ++converted;
+    enter(Phase.INJECTION);
+  }
+
+  void failed(@Nullable final Object target, @NotNull final String option, @NotNull final RuntimeException error) {
+    ++errors;
+    @NotNull final Failure $ = new Failure(target, option, error);
+    for (@NotNull final ParseListener ¢ : listeners)
+      ¢.failed($);
+  }
+
+  /** End the extraction, and notify the listeners
+   * @param targets the targets of the extraction */
+  void done(@NotNull final Object[] targets) {
+    enter(null);
+    if (outer != null)
+      current.set(outer);
+    else
+      current.remove();
+    @NotNull final Class<?>[] classes = new Class<?>[targets.length];
+    for (int ¢ = 0; ¢ < targets.length; ++¢)
+      classes[¢] = Introspector.getClass(targets[¢]);
+    @NotNull final Statistics $ = new Statistics(classes, matched, converted, errors, lookups, nanos);
+    for (@NotNull final ParseListener ¢ : listeners)
+      ¢.extracted($);
+  }
+}
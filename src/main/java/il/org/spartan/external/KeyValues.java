@@ -0,0 +1,154 @@
+package il.org.spartan.external;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+
+import org.jetbrains.annotations.NotNull;
+
+/** A streaming scanner of text in the format of {@link java.util.Properties}
+ * files, i.e., <code>key=value</code>, <code>key:value</code> and
+ * <code>key value</code> lines, with comment lines, line continuations and
+ * escapes, as specified by {@link java.util.Properties#load(Reader)}.
+ * <p>
+ * Rather than storing all pairs in a table, the scanner hands pairs over as
+ * they are found; moreover, the value of a key which is not wanted is skipped
+ * without being collected into a {@link String}.
+ * @since 2026-10-16 */
+final class KeyValues {
+  @NotNull private final Reader in;
+  @NotNull private final char[] buffer = new char[8192];
+  private int position;
+  private int limit;
+  /** Whether the last character returned by {@link #next()} came from an
+   * escape sequence, and hence has no special meaning */
+  private boolean escaped;
+
+  private KeyValues(@NotNull final Reader in) {
+    this.in = in;
+  }
+
+  /** @param r text in the format of {@link java.util.Properties} files
+   * @param wanted determines the keys whose values are collected
+   * @param sink receives the collected pairs, in order of appearance
+   * @throws IOException if the text could not be read
+   * @throws IllegalArgumentException if the text contains a malformed
+   *         <code>\\uxxxx</code> escape */
+  static void scan(@NotNull final Reader r, @NotNull final Predicate<String> wanted, @NotNull final BiConsumer<String, String> sink)
+      throws IOException {
+    new KeyValues(r).scan(wanted, sink);
+  }
+
+  private void scan(@NotNull final Predicate<String> wanted, @NotNull final BiConsumer<String, String> sink) throws IOException {
+    @NotNull final StringBuilder key = new StringBuilder(), value = new StringBuilder();
+    for (int c = next();;) {
+      while (blank(c) || lineEnd(c))
+        c = next();
+      if (c < 0)
+        return;
+      if (!escaped && (c == '#' || c == '!')) {
+        c = comment();
+        continue;
+      }
+      key.setLength(0);
+      for (; c >= 0 && !lineEnd(c) && !blank(c) && !separator(c); c = next())
+        key.append((char) c);
+      while (blank(c))
+        c = next();
+      if (separator(c))
+        for (c = next(); blank(c);)
+          c = next();
+      final boolean collect = wanted.test(key + "");
+      value.setLength(0);
+      for (; c >= 0 && !lineEnd(c); c = next())
+        if (collect)
+          value.append((char) c);
+      if (collect)
+        sink.accept(key + "", value + "");
+    }
+  }
+
+  private boolean blank(final int ¢) {
+    return !escaped && (¢ == ' ' || ¢ == '\t' || ¢ == '\f');
+  }
+
+  private boolean lineEnd(final int ¢) {
+    return !escaped && (¢ == '\n' || ¢ == '\r');
+  }
+
+  private boolean separator(final int ¢) {
+    return !escaped && (¢ == '=' || ¢ == ':');
+  }
+
+  /** Skip a comment line, in which neither escapes nor continuations apply
+   * @return the character following the line */
+  private int comment() throws IOException {
+    for (int $ = raw();; $ = raw())
+      if ($ < 0 || $ == '\n' || $ == '\r') {
+        escaped = false;
+        return $;
+      }
+  }
+
+  /** @return the next character of the current logical line, after
+   *         translating escapes and joining continued lines, or -1 at the
+   *         end of the text */
+  private int next() throws IOException {
+    escaped = false;
+    int $ = raw();
+    if ($ != '\\')
+      return $;
+    if (($ = raw()) < 0)
+      return $;
+    if ($ == '\r' || $ == '\n') {
+      if ($ == '\r' && peek() == '\n')
+        raw();
+      for (int ¢ = peek(); ¢ == ' ' || ¢ == '\t' || ¢ == '\f'; ¢ = peek())
+        raw();
+      return next();
+    }
+    escaped = true;
+    switch ($) {
+      case 't':
+        return '\t';
+      case 'n':
+        return '\n';
+      case 'r':
+        return '\r';
+      case 'f':
+        return '\f';
+      case 'u':
+        return unicode();
+      default:
+        return $;
+    }
+  }
+
+  private int unicode() throws IOException {
+    int $ = 0;
+    for (int ¢ = 0; ¢ < 4; ++¢) {
+      final int digit = Character.digit(raw(), 16);
+      if (digit < 0)
+        throw new IllegalArgumentException("Malformed \\uxxxx encoding.");
+      $ = $ << 4 | digit;
+    }
+    return $;
+  }
+
+  private int raw() throws IOException {
+    return fill() ? buffer[position++] : -1;
+  }
+
+  private int peek() throws IOException {
+    return fill() ? buffer[position] : -1;
+  }
+
+  private boolean fill() throws IOException {
+    if (position < limit)
+      return true;
+    position = 0;
+    limit = Math.max(0, in.read(buffer));
+    return limit > 0;
+  }
+}
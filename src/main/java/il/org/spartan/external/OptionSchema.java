@@ -0,0 +1,725 @@
+package il.org.spartan.external;
+
+import java.beans.IntrospectionException;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import il.org.spartan.external.External.Introspector.Argument;
+import il.org.spartan.external.External.Introspector.NonArray;
+import il.org.spartan.external.External.Introspector.NonSingleResidue;
+
+/** A compiled, immutable description of the {@link External} and
+ * {@link External.Residue} members of a class. The class hierarchy, its
+ * {@link java.beans.BeanInfo} and its annotations are examined once, when the
+ * schema is first requested; all later invocations of the
+ * {@link External.Introspector} functions on this class read the resolved
+ * {@link Argument}s and accessors from the cache.
+ * <p>
+ * Schemas are kept in a {@link ClassValue}, and therefore do not prevent the
+ * unloading of the classes they describe.
+ * @since 2026-10-16 */
+final class OptionSchema {
+  /** The setter based properties of the class, in the order reported by
+   * {@link java.beans.Introspector} */
+  @NotNull final List<Mutator> properties;
+  /** The {@link External} fields of the class and its super classes */
+  @NotNull final List<Mutator> fields;
+  /** The {@link External} argumentless methods of the class and its super
+   * classes */
+  @NotNull final List<Accessor> getters;
+  /** The {@link External.Residue} fields of the class and its super classes */
+  @NotNull final List<Residue> residues;
+
+  private OptionSchema(@NotNull final ExternalParser p) {
+    @NotNull final Builder b = new Builder();
+    p.describe(b);
+    properties = Collections.unmodifiableList(b.properties);
+    fields = Collections.unmodifiableList(b.fields);
+    getters = Collections.unmodifiableList(b.getters);
+    residues = Collections.unmodifiableList(b.residues);
+  }
+
+  private OptionSchema(@NotNull final Class<?> base) {
+    properties = properties(base);
+    @NotNull final List<Mutator> fields = new ArrayList<>();
+    @NotNull final List<Accessor> getters = new ArrayList<>();
+    @NotNull final List<Residue> residues = new ArrayList<>();
+    for (Class<?> c = base; c != null; c = c.getSuperclass()) {
+      Instrumentation.lookup();
+      for (@NotNull final Field ¢ : c.getDeclaredFields()) {
+        @Nullable final Argument a = Argument.make(¢);
+        if (a != null)
+          fields.add(new FieldAccessor(a, accessible(¢)));
+        if (¢.getAnnotation(External.Residue.class) != null)
+          residues.add(new FieldResidue(accessible(¢)));
+      }
+      Instrumentation.lookup();
+      for (@NotNull final Method ¢ : c.getDeclaredMethods())
+        if (isGetter(¢)) {
+          @Nullable final Argument a = Argument.make(¢);
+          if (a != null)
+            getters.add(getter(a, accessible(¢)));
+        }
+    }
+    this.fields = Collections.unmodifiableList(fields);
+    this.getters = Collections.unmodifiableList(getters);
+    this.residues = Collections.unmodifiableList(residues);
+  }
+
+  /** @param ¢ a class
+   * @return the schema of the parameter, computed on first use */
+  @NotNull static OptionSchema of(@NotNull final Class<?> ¢) {
+    return cache.get(¢);
+  }
+
+  /** Discard all schemas computed so far. */
+  static void clear() {
+    cache = newCache();
+  }
+
+  /** Discard the schema of a single class.
+   * @param ¢ a class */
+  static void clear(@NotNull final Class<?> ¢) {
+    cache.remove(¢);
+  }
+
+  private static volatile ClassValue<OptionSchema> cache = newCache();
+  private static final MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+  @NotNull private static ClassValue<OptionSchema> newCache() {
+    return new ClassValue<OptionSchema>() {
+      @Override protected OptionSchema computeValue(final Class<?> ¢) {
+        @Nullable final ExternalParser $ = generated(¢);
+        return $ == null ? new OptionSchema(¢) : new OptionSchema($);
+      }
+    };
+  }
+
+  /** @param c a class
+   * @return an instance of the {@link ExternalParser} generated for the
+   *         parameter at compile time, or <code><b>null</b></code> if there is
+   *         none */
+  @Nullable private static ExternalParser generated(@NotNull final Class<?> c) {
+    if (c.getClassLoader() == null)
+      return null;
+    try {
+      Instrumentation.lookup();
+      @NotNull final Class<?> $ = Class.forName(c.getName() + "$ExternalParser", true, c.getClassLoader());
+      return !ExternalParser.class.isAssignableFrom($) ? null : (ExternalParser) $.getDeclaredConstructor().newInstance();
+    } catch (@NotNull final ReflectiveOperationException | LinkageError ____) {
+      return null;
+    }
+  }
+
+  @NotNull private static List<Mutator> properties(@NotNull final Class<?> c) {
+    @NotNull final List<Mutator> $ = new ArrayList<>();
+    for (@NotNull final PropertyDescriptor ¢ : descriptors(c)) {
+      @Nullable final Argument a = Argument.make(¢);
+      if (a != null)
+        $.add(new PropertyAccessor(a, ¢));
+    }
+    return Collections.unmodifiableList($);
+  }
+
+  private static PropertyDescriptor[] descriptors(final Class<?> $) {
+    try {
+      Instrumentation.lookup();
+      return java.beans.Introspector.getBeanInfo($).getPropertyDescriptors();
+    } catch (@NotNull final IntrospectionException ____) {
+      // Ignore errors of this sort
+      return new PropertyDescriptor[0];
+    }
+  }
+
+  @NotNull private static Accessor getter(@NotNull final Argument a, @NotNull final Method m) {
+    try {
+      return new GetterAccessor(a, m);
+    } catch (@NotNull final IllegalAccessException ____) {
+      return new Accessor(a) {
+        @Override Object get(final Object target) {
+          return argument.get(target, m);
+        }
+      };
+    }
+  }
+
+  private static boolean isGetter(@NotNull final Method ¢) {
+    return ¢.getParameterTypes().length == 0 && ¢.getReturnType() != Void.TYPE;
+  }
+
+  /** @param $ a member
+   * @return the parameter, which the reflection API and
+   *         {@link MethodHandles.Lookup#unreflect(Method)} and its siblings
+   *         may now access regardless of its visibility */
+  @NotNull private static <T extends AccessibleObject> T accessible(@NotNull final T $) {
+    $.setAccessible(true);
+    return $;
+  }
+
+  /** A resolved {@link External} member whose value can be read */
+  abstract static class Accessor {
+    @NotNull final Argument argument;
+
+    Accessor(@NotNull final Argument argument) {
+      this.argument = argument;
+    }
+
+    @Nullable abstract Object get(Object target);
+
+    @NotNull String asString(final Object target) {
+      return argument.asString(get(target));
+    }
+
+    @NotNull String usage(final Object target) {
+      return argument.usage(get(target));
+    }
+  }
+
+  /** A resolved {@link External} member whose value can also be set */
+  abstract static class Mutator extends Accessor {
+    Mutator(@NotNull final Argument argument) {
+      super(argument);
+    }
+
+    /** Convert a value, given as text, and write it into this member */
+    final void set(final Object target, @Nullable final String value) {
+      set(target, value, null);
+    }
+
+    /** Convert a value, given as text, and write it into this member
+     * @param i the instrumentation of the extraction, which is told when the
+     *        value was converted, and is about to be written, or
+     *        <code><b>null</b></code> */
+    abstract void set(Object target, @Nullable String value, @Nullable Instrumentation i);
+
+    /** Write a value which was already converted from text */
+    abstract void assign(Object target, Object value);
+
+    /** @return whether the member is <code><b>static</b></code>, i.e., shared
+     *         by all instances */
+    boolean isStatic() {
+      return false;
+    }
+
+    /** @return whether the value of the member can be read, which is not the
+     *         case for a property without a getter */
+    boolean isReadable() {
+      return true;
+    }
+  }
+
+  /** Writes a value, given as text, into a member, converting it on the way,
+   * and telling the instrumentation, if there is one, when it is converted */
+  @FunctionalInterface private interface Injector {
+    void inject(Object target, String value, @Nullable Instrumentation i) throws Throwable;
+  }
+
+  /** @param a the argument whose values are to be injected
+   * @param h a method handle of type <code>(Object,T)void</code>, where
+   *        <code>T</code> is the type of the argument
+   * @return an {@link Injector} that passes values of primitive types to the
+   *         parameter without boxing them, unless a converter was registered
+   *         for their type */
+  @NotNull private static Injector injector(@NotNull final Argument a, @NotNull final MethodHandle h) {
+    final Class<?> t = h.type().parameterType(1);
+    if (t == boolean.class)
+      return (target, __, i) -> {
+        Instrumentation.injecting(i);
+        h.invokeExact(target, true);
+      };
+    if (a.registered())
+      return objectInjector(a, h);
+    if (t == byte.class)
+      return (target, value, i) -> {
+        final byte $ = a.asByte(value);
+        Instrumentation.injecting(i);
+        h.invokeExact(target, $);
+      };
+    if (t == short.class)
+      return (target, value, i) -> {
+        final short $ = a.asShort(value);
+        Instrumentation.injecting(i);
+        h.invokeExact(target, $);
+      };
+    if (t == int.class)
+      return (target, value, i) -> {
+        final int $ = a.asInt(value);
+        Instrumentation.injecting(i);
+        h.invokeExact(target, $);
+      };
+    if (t == long.class)
+      return (target, value, i) -> {
+        final long $ = a.asLong(value);
+        Instrumentation.injecting(i);
+        h.invokeExact(target, $);
+      };
+    if (t == float.class)
+      return (target, value, i) -> {
+        final float $ = a.asFloat(value);
+        Instrumentation.injecting(i);
+        h.invokeExact(target, $);
+      };
+    if (t == double.class)
+      return (target, value, i) -> {
+        final double $ = a.asDouble(value);
+        Instrumentation.injecting(i);
+        h.invokeExact(target, $);
+      };
+    return objectInjector(a, h);
+  }
+
+  /** @param a the argument whose values are to be injected
+   * @param h a method handle of type <code>(Object,T)void</code>
+   * @return an {@link Injector} that converts values by
+   *         {@link Argument#asObject(String)} */
+  @NotNull private static Injector objectInjector(@NotNull final Argument a, @NotNull final MethodHandle h) {
+    final MethodHandle $ = h.asType(MethodType.methodType(void.class, Object.class, Object.class));
+    return (target, value, i) -> {
+      final Object converted = a.asObject(value);
+      Instrumentation.injecting(i);
+      $.invokeExact(target, converted);
+    };
+  }
+
+  /** @param h a method handle whose first parameter is the receiver
+   * @return the parameter, adapted to take an {@link Object} receiver */
+  @NotNull private static MethodHandle onObject(@NotNull final MethodHandle h) {
+    return h.asType(h.type().changeParameterType(0, Object.class));
+  }
+
+  /** @param h a method handle of a static member
+   * @return the parameter, adapted to take, and ignore, an {@link Object}
+   *         receiver */
+  @NotNull private static MethodHandle ignoringTarget(@NotNull final MethodHandle h) {
+    return MethodHandles.dropArguments(h, 0, Object.class);
+  }
+
+  @NotNull private static MethodHandle returningObject(@NotNull final MethodHandle h) {
+    return h.asType(h.type().changeReturnType(Object.class));
+  }
+
+  /** A field, read and written through method handles. <code><b>final</b></code>
+   * fields are written by reflection, which reports the appropriate error;
+   * no writer handle is made for these, since on some runtimes, e.g., Java 8,
+   * one can be made for an accessible <code><b>static final</b></code> field,
+   * and would then overwrite it. Fields for which no handle can be made are
+   * accessed by reflection as well. */
+  static final class FieldAccessor extends Mutator {
+    @NotNull final Field field;
+    @Nullable private final MethodHandle reader;
+    @Nullable private final Injector injector;
+
+    FieldAccessor(@NotNull final Argument argument, @NotNull final Field field) {
+      super(argument);
+      this.field = field;
+      final boolean isStatic = Modifier.isStatic(field.getModifiers());
+      reader = reader(field, isStatic);
+      @Nullable final MethodHandle writer = writer(field, isStatic);
+      injector = writer == null ? null : injector(argument, writer);
+    }
+
+    @Nullable private static MethodHandle reader(@NotNull final Field f, final boolean isStatic) {
+      try {
+        Instrumentation.lookup();
+        final MethodHandle $ = lookup.unreflectGetter(f);
+        return returningObject(isStatic ? ignoringTarget($) : onObject($));
+      } catch (@NotNull final IllegalAccessException ____) {
+        return null;
+      }
+    }
+
+    @Nullable private static MethodHandle writer(@NotNull final Field f, final boolean isStatic) {
+      if (Modifier.isFinal(f.getModifiers()))
+        return null;
+      try {
+        Instrumentation.lookup();
+        final MethodHandle $ = lookup.unreflectSetter(f);
+        return isStatic ? ignoringTarget($) : onObject($);
+      } catch (@NotNull final IllegalAccessException ____) {
+        return null;
+      }
+    }
+
+    @Override Object get(final Object target) {
+      if (reader == null)
+        return argument.get(target, field);
+      try {
+        return reader.invokeExact(target);
+      } catch (@NotNull final Throwable ¢) {
+        throw argument.new FieldUnreadable(field, ¢);
+      }
+    }
+
+    @Override boolean isStatic() {
+      return Modifier.isStatic(field.getModifiers());
+    }
+
+    @Override void assign(final Object target, final Object value) {
+      argument.set(field, target, value);
+    }
+
+    @Override void set(final Object target, @Nullable final String value, @Nullable final Instrumentation i) {
+      if (value == null)
+        return;
+      if (injector == null) {
+        final Object $ = argument.asObject(value);
+        Instrumentation.injecting(i);
+        argument.set(field, target, $);
+        return;
+      }
+      try {
+        injector.inject(target, value, i);
+      } catch (@NotNull final ExceptionInInitializerError ¢) {
+        throw argument.new FieldInitializationError(field, argument.asObject(value), ¢);
+      } catch (@NotNull final ClassCastException ¢) {
+        throw argument.new WrongTarget(field, value, ¢);
+      } catch (@NotNull final RuntimeException | Error ¢) {
+        throw ¢;
+      } catch (@NotNull final Throwable ¢) {
+        throw new RuntimeException(¢);
+      }
+    }
+  }
+
+  /** A setter based property, written and read through method handles */
+  static final class PropertyAccessor extends Mutator {
+    @NotNull final PropertyDescriptor descriptor;
+    @Nullable private final MethodHandle reader;
+    @Nullable private final Injector injector;
+
+    PropertyAccessor(@NotNull final Argument argument, @NotNull final PropertyDescriptor descriptor) {
+      super(argument);
+      this.descriptor = descriptor;
+      reader = reader(descriptor.getReadMethod());
+      @Nullable final MethodHandle writer = writer(descriptor.getWriteMethod());
+      injector = writer == null ? null : injector(argument, writer);
+    }
+
+    @Nullable private static MethodHandle reader(@Nullable final Method m) {
+      try {
+        Instrumentation.lookup();
+        return m == null ? null : returningObject(onObject(lookup.unreflect(m)));
+      } catch (@NotNull final IllegalAccessException ____) {
+        return null;
+      }
+    }
+
+    @Nullable private static MethodHandle writer(@NotNull final Method m) {
+      try {
+        Instrumentation.lookup();
+        return onObject(lookup.unreflect(m));
+      } catch (@NotNull final IllegalAccessException ____) {
+        return null;
+      }
+    }
+
+    @Override @Nullable Object get(final Object target) {
+      if (reader == null || !isTarget(target))
+        return argument.get(target, descriptor);
+      try {
+        return reader.invokeExact(target);
+      } catch (@NotNull final Throwable ¢) {
+        throw argument.new FieldConversionError(descriptor, ¢);
+      }
+    }
+
+    @Override void set(final Object target, @Nullable final String value, @Nullable final Instrumentation i) {
+      if (value == null)
+        return;
+      if (injector == null || !isTarget(target)) {
+        final Object $ = argument.asObject(value);
+        Instrumentation.injecting(i);
+        argument.set(descriptor, target, $);
+        return;
+      }
+      try {
+        injector.inject(target, value, i);
+      } catch (@NotNull final External.Introspector.Error ¢) {
+        throw ¢;
+      } catch (@NotNull final Throwable ¢) {
+        throw argument.new FieldConversionError(descriptor, value, ¢);
+      }
+    }
+
+    @Override void assign(final Object target, final Object value) {
+      argument.set(descriptor, target, value);
+    }
+
+    @Override boolean isReadable() {
+      return descriptor.getReadMethod() != null;
+    }
+
+    private boolean isTarget(final Object ¢) {
+      return descriptor.getWriteMethod().getDeclaringClass().isInstance(¢);
+    }
+  }
+
+  static final class GetterAccessor extends Accessor {
+    @NotNull final Method method;
+    @NotNull private final MethodHandle reader;
+
+    GetterAccessor(@NotNull final Argument argument, @NotNull final Method method) throws IllegalAccessException {
+      super(argument);
+      this.method = method;
+      Instrumentation.lookup();
+      @NotNull final MethodHandle $ = lookup.unreflect(method);
+      reader = returningObject(Modifier.isStatic(method.getModifiers()) ? ignoringTarget($) : onObject($));
+    }
+
+    @Override Object get(final Object target) {
+      try {
+        return reader.invokeExact(target);
+      } catch (@NotNull final Throwable ¢) {
+        throw argument.new FieldConversionError(method, ¢);
+      }
+    }
+  }
+
+  /** An {@link External} member, accessed by code generated at compile
+   * time. Values are written through the method of the generated
+   * {@link ExternalParser.Setter} which takes the type of the member, so that
+   * values of primitive types are not boxed. */
+  static final class GeneratedAccessor extends Mutator {
+    @NotNull private static final Map<Class<?>, MethodHandle> writers = writers();
+    private final boolean isField;
+    @Nullable private final ExternalParser.Getter getter;
+    @Nullable private final ExternalParser.Setter setter;
+    @Nullable private final Injector injector;
+
+    GeneratedAccessor(@NotNull final Argument argument, final boolean isField, @Nullable final ExternalParser.Getter getter,
+        @Nullable final ExternalParser.Setter setter) {
+      super(argument);
+      this.isField = isField;
+      this.getter = getter;
+      this.setter = setter;
+      injector = setter == null ? null : injector(argument, writer(argument.type).bindTo(setter));
+    }
+
+    /** @param type the type of a member
+     * @return a method handle of type <code>(Setter,Object,T)void</code> of
+     *         the method of {@link ExternalParser.Setter} which writes values
+     *         of type <code>T</code>, which is the parameter, if it is a
+     *         primitive type, or {@link Object} otherwise */
+    @NotNull private static MethodHandle writer(@NotNull final Class<?> type) {
+      @Nullable final MethodHandle $ = writers.get(type);
+      return $ != null ? $ : writers.get(Object.class);
+    }
+
+    /** @return the methods of {@link ExternalParser.Setter}, by the type of
+     *         the values they write; these are looked up once, rather than for
+     *         every member */
+    @NotNull private static Map<Class<?>, MethodHandle> writers() {
+      @NotNull final Map<Class<?>, MethodHandle> $ = new HashMap<>();
+      for (@NotNull final Class<?> ¢ : new Class<?>[] { Object.class, boolean.class, byte.class, short.class, int.class, long.class, float.class,
+          double.class })
+        try {
+          @NotNull final String name = ¢ == Object.class ? "" : Character.toUpperCase(¢.getName().charAt(0)) + ¢.getName().substring(1);
+          $.put(¢, lookup.findVirtual(ExternalParser.Setter.class, "set" + name, MethodType.methodType(void.class, Object.class, ¢)));
+        } catch (@NotNull final NoSuchMethodException | IllegalAccessException e) {
+          throw new IllegalStateException(e);
+        }
+      return $;
+    }
+
+    @Override @Nullable Object get(final Object target) {
+      if (getter == null)
+        return null;
+      try {
+        return getter.get(target);
+      } catch (@NotNull final RuntimeException | Error ¢) {
+        throw isField ? argument.new FieldUnreadable(argument.name, ¢) : argument.new FieldConversionError(argument.name, ¢);
+      }
+    }
+
+    @Override boolean isReadable() {
+      return getter != null;
+    }
+
+    @Override void set(final Object target, @Nullable final String value, @Nullable final Instrumentation i) {
+      if (value == null || injector == null)
+        return;
+      try {
+        injector.inject(target, value, i);
+      } catch (@NotNull final External.Introspector.Error ¢) {
+        throw ¢;
+      } catch (@NotNull final RuntimeException | ExceptionInInitializerError ¢) {
+        throw error(argument, isField, value, ¢);
+      } catch (@NotNull final Error ¢) {
+        throw ¢;
+      } catch (@NotNull final Throwable ¢) {
+        throw new RuntimeException(¢);
+      }
+    }
+
+    @Override void assign(final Object target, final Object value) {
+      if (setter != null)
+        write(argument, setter, isField, target, value);
+    }
+
+    static void write(@NotNull final Argument a, @NotNull final ExternalParser.Setter s, final boolean isField, final Object target,
+        final Object value) {
+      try {
+        s.set(target, value);
+      } catch (@NotNull final RuntimeException | ExceptionInInitializerError ¢) {
+        throw error(a, isField, value, ¢);
+      }
+    }
+
+    /** @param ¢ what a generated setter threw while writing a value
+     * @return the error to report instead */
+    @NotNull private static RuntimeException error(@NotNull final Argument a, final boolean isField, final Object value,
+        @NotNull final Throwable ¢) {
+      if (¢ instanceof ExceptionInInitializerError)
+        return a.new FieldInitializationError(a.name, value, (ExceptionInInitializerError) ¢);
+      if (¢ instanceof ClassCastException)
+        return isField ? a.new WrongTarget(a.name, value, (ClassCastException) ¢) : a.new FieldConversionError(a.name, value, ¢);
+      return isField ? (RuntimeException) ¢ : a.new FieldConversionError(a.name, value, ¢);
+    }
+  }
+
+  /** A resolved {@link External.Residue} member */
+  abstract static class Residue {
+    @NotNull final String name;
+    @NotNull final Class<?> type;
+    /** <code><b>null</b></code> if the member is not of an array type, nor
+     * of any of the types of {@link #value(List)} */
+    @Nullable final Argument argument;
+
+    Residue(@NotNull final String name, @NotNull final Class<?> type) {
+      this.name = name;
+      this.type = type;
+      argument = type.isArray() || type == Iterator.class || type == Stream.class || type == Path.class ? Argument.makeResidue(name, type)
+          : null;
+    }
+
+    void set(final Object target, @NotNull final List<String> values) {
+      if (argument == null)
+        throw new NonArray(name);
+      write(target, value(values));
+    }
+
+    /** @return the value of the member, where {@link Iterator} and
+     *         {@link Stream} members are views of the parameter, rather than
+     *         copies of it */
+    @Nullable private Object value(@NotNull final List<String> values) {
+      if (type == Iterator.class)
+        return values.iterator();
+      if (type == Stream.class)
+        return values.stream();
+      if (type != Path.class)
+        return argument.asArrayObject(values);
+      if (values.size() > 1)
+        throw new NonSingleResidue(name, values.size());
+      return values.isEmpty() ? null : Paths.get(values.get(0));
+    }
+
+    abstract void write(Object target, Object value);
+
+    boolean isStatic() {
+      return false;
+    }
+  }
+
+  static final class FieldResidue extends Residue {
+    @NotNull final Field field;
+
+    FieldResidue(@NotNull final Field field) {
+      super(field.getName(), field.getType());
+      this.field = field;
+    }
+
+    @Override void write(final Object target, final Object value) {
+      argument.set(field, target, value);
+    }
+
+    @Override boolean isStatic() {
+      return Modifier.isStatic(field.getModifiers());
+    }
+  }
+
+  static final class GeneratedResidue extends Residue {
+    @NotNull private final ExternalParser.Setter setter;
+
+    GeneratedResidue(@NotNull final String name, @NotNull final Class<?> type, @NotNull final ExternalParser.Setter setter) {
+      super(name, type);
+      this.setter = setter;
+    }
+
+    @Override void write(final Object target, final Object value) {
+      GeneratedAccessor.write(argument, setter, true, target, value);
+    }
+  }
+
+  /** Collects the members described by a generated {@link ExternalParser} */
+  private static final class Builder implements ExternalParser.Members {
+    final List<Mutator> properties = new ArrayList<>();
+    final List<Mutator> fields = new ArrayList<>();
+    final List<Accessor> getters = new ArrayList<>();
+    final List<Residue> residues = new ArrayList<>();
+
+    @Override public void property(final String name, final String alias, final boolean required, final String description,
+        final String delimiter, final Class<?> type, final ExternalParser.Getter g, final ExternalParser.Setter s) {
+      properties.add(new GeneratedAccessor(Argument.make(name, type, alias, required, description, delimiter), false, g, s));
+    }
+
+    @Override public void field(final String name, final String alias, final boolean required, final String description, final String delimiter,
+        final Class<?> type, final ExternalParser.Getter g, final ExternalParser.Setter s) {
+      fields.add(new GeneratedAccessor(Argument.make(name, type, alias, required, description, delimiter), true, g, s));
+    }
+
+    @Override public void field(final Class<?> declaring, final String field) {
+      @NotNull final Field f = declaredField(declaring, field);
+      fields.add(new FieldAccessor(Argument.make(f), accessible(f)));
+    }
+
+    @Override public void getter(final String name, final String alias, final boolean required, final String description,
+        final String delimiter, final Class<?> type, final ExternalParser.Getter g) {
+      getters.add(new GeneratedAccessor(Argument.make(name, type, alias, required, description, delimiter), false, g, null));
+    }
+
+    @Override public void getter(final Class<?> declaring, final String method) {
+      try {
+        Instrumentation.lookup();
+        @NotNull final Method m = declaring.getDeclaredMethod(method);
+        getters.add(OptionSchema.getter(Argument.make(m), accessible(m)));
+      } catch (@NotNull final NoSuchMethodException ¢) {
+        throw new IllegalStateException(¢);
+      }
+    }
+
+    @Override public void residue(final String name, final Class<?> type, final ExternalParser.Setter s) {
+      residues.add(new GeneratedResidue(name, type, s));
+    }
+
+    @Override public void residue(final Class<?> declaring, final String field) {
+      residues.add(new FieldResidue(accessible(declaredField(declaring, field))));
+    }
+
+    @NotNull private static Field declaredField(@NotNull final Class<?> declaring, @NotNull final String field) {
+      try {
+        Instrumentation.lookup();
+        return declaring.getDeclaredField(field);
+      } catch (@NotNull final NoSuchFieldException ¢) {
+        throw new IllegalStateException(¢);
+      }
+    }
+  }
+}
@@ -0,0 +1,132 @@
+package il.org.spartan.external;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import il.org.spartan.external.External.Introspector;
+
+/** Observes extractions made by {@link Introspector}, i.e., from command line
+ * arguments, from {@link java.util.Properties}, and from text in the format of
+ * properties files. Listeners are installed by
+ * {@link Introspector#addListener(ParseListener)}; as long as none is
+ * installed, extractions are not measured at all.
+ * <p>
+ * Listeners are notified on the extracting thread, and may therefore be
+ * notified concurrently by several threads. A listener which commits JDK
+ * Flight Recorder events is found in the <code>cli-jfr</code> module, which
+ * requires Java 11.
+ * @since 2026-10-16 */
+public interface ParseListener {
+  /** The phases of an extraction */
+  enum Phase {
+    /** Finding the {@link External} members of targets, by reflection, or by
+     * code generated at compile time; only the first extraction into a class
+     * pays for it */
+    DISCOVERY,
+    /** Finding options, and their values, among the arguments or keys */
+    MATCHING,
+    /** Converting values from text into the types of their members */
+    CONVERSION,
+    /** Writing converted values into their members */
+    INJECTION,
+    /** Writing the residual arguments into {@link External.Residue}
+     * members */
+    RESIDUE
+  }
+
+  /** Called when an extraction begins, on the thread which makes it; the
+   * same thread then reports its end by {@link #extracted(Statistics)}.
+   * Extractions may nest, e.g., if a listener itself extracts options. */
+  default void started() {
+    // Ignored by default
+  }
+
+  /** Called for each error found, as it is found, before the extraction
+   * fails.
+   * @param ¢ the error */
+  default void failed(@NotNull final Failure ¢) {
+    // Errors are ignored by default
+  }
+
+  /** Called when an extraction is done, whether it succeeded or failed.
+   * @param ¢ what the extraction did */
+  void extracted(@NotNull Statistics ¢);
+
+  /** An error found by an extraction */
+  final class Failure {
+    /** The target into which the option was extracted, or
+     * <code><b>null</b></code> if the error does not concern any target, e.g.,
+     * an unrecognized option */
+    @Nullable public final Object target;
+    /** The option in error, or the argument, if it is not an option of any
+     * target */
+    @NotNull public final String option;
+    /** The error, which is also printed, or thrown, by the extraction */
+    @NotNull public final RuntimeException error;
+
+    Failure(@Nullable final Object target, @NotNull final String option, @NotNull final RuntimeException error) {
+      this.target = target;
+      this.option = option;
+      this.error = error;
+    }
+
+    @Override public String toString() {
+      return option + ": " + error.getMessage();
+    }
+  }
+
+  /** Timings, and counts, of a single extraction */
+  final class Statistics {
+    /** The classes of the targets of the extraction */
+    @NotNull public final List<Class<?>> targets;
+    /** Number of options found */
+    public final int matched;
+    /** Number of values converted from text */
+    public final int converted;
+    /** Number of errors found */
+    public final int errors;
+    /** Number of reflective lookups, e.g., of fields, methods, method handles
+     * and constructors, made by the extracting thread in order to discover the
+     * members of the targets, and to convert their values; these are made
+     * only by the first extraction into a class, or the first conversion into
+     * a type */
+    public final int lookups;
+    @NotNull private final long[] nanos;
+
+    Statistics(@NotNull final Class<?>[] targets, final int matched, final int converted, final int errors, final int lookups,
+        @NotNull final long[] nanos) {
+      this.targets = Collections.unmodifiableList(Arrays.asList(targets));
+      this.matched = matched;
+      this.converted = converted;
+      this.errors = errors;
+      this.lookups = lookups;
+      this.nanos = nanos;
+    }
+
+    /** @param ¢ a phase
+     * @return the time spent in this phase, in nanoseconds */
+    public long nanos(@NotNull final Phase ¢) {
+      return nanos[¢.ordinal()];
+    }
+
+    /** @return the time spent in all phases, in nanoseconds */
+    public long nanos() {
+      long $ = 0;
+      for (final long ¢ : nanos)
+        $ += ¢;
+      return $;
+    }
+
+    @Override public String toString() {
+      @NotNull final StringBuilder $ = new StringBuilder().append(matched).append(" matched, ").append(converted).append(" converted, ")
+          .append(errors).append(" errors, ").append(lookups).append(" lookups");
+      for (@NotNull final Phase ¢ : Phase.values())
+        $.append(", ").append(¢.name().toLowerCase()).append(' ').append(nanos(¢)).append("ns");
+      return $ + "";
+    }
+  }
+}
@@ -0,0 +1,231 @@
+package il.org.spartan.external;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.Collectors;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import il.org.spartan.external.External.Introspector;
+import il.org.spartan.external.External.Introspector.NotInstantiable;
+import il.org.spartan.external.External.Introspector.UnrecognizedOption;
+import il.org.spartan.external.OptionSchema.Mutator;
+import il.org.spartan.external.OptionSchema.Residue;
+import il.org.spartan.external.ParseListener.Phase;
+
+/** An immutable, thread safe parser of command line arguments into fresh
+ * instances of a given class. The {@link External} and
+ * {@link External.Residue} members of the class are resolved when the parser
+ * is made, into the description of the class shared with {@link Introspector},
+ * which is resolved again only after a converter is registered; each parse
+ * then creates a new instance, and reports the outcome in a {@link Result}.
+ * <p>
+ * Unlike the functions of {@link Introspector}, a parser has no global side
+ * effects: nothing is printed, errors are returned rather than kept in shared
+ * state, and <code><b>static</b></code> members are never written; their
+ * converted values are found in {@link Result#statics()} instead. The class
+ * must have an argumentless constructor.
+ * <p>
+ * Parses are measured, and reported to the {@link ParseListener}s installed by
+ * {@link Introspector#addListener(ParseListener)}, as extractions whose single
+ * target is the new instance.
+ * @since 2026-10-16 */
+public final class Parser<T> {
+  @NotNull private final Class<T> type;
+  @NotNull private final MethodHandle constructor;
+
+  private Parser(@NotNull final Class<T> type) {
+    this.type = type;
+    OptionSchema.of(type);
+    constructor = constructor(type);
+  }
+
+  /** @param type a class with an argumentless constructor, of any visibility
+   * @return a parser into instances of the parameter
+   * @throws NotInstantiable if the class has no argumentless constructor */
+  @NotNull public static <T> Parser<T> of(@NotNull final Class<T> type) {
+    return new Parser<>(type);
+  }
+
+  @NotNull private static MethodHandle constructor(@NotNull final Class<?> type) {
+    try {
+      @NotNull final Constructor<?> $ = type.getDeclaredConstructor();
+      $.setAccessible(true);
+      return MethodHandles.lookup().unreflectConstructor($).asType(MethodType.methodType(Object.class));
+    } catch (@NotNull final NoSuchMethodException | IllegalAccessException | SecurityException ¢) {
+      throw new NotInstantiable(type, ¢);
+    }
+  }
+
+  /** @param args command line arguments
+   * @return a new instance, into which the arguments were extracted
+   * @throws Introspector.Argument.ParsingError in case the command line
+   *         arguments could not be parsed successfully; the first of the
+   *         errors is thrown
+   * @throws Introspector.Argument.ReflectionError in case the extracted value
+   *         could not be injected */
+  @NotNull public T parse(@NotNull final String... args) {
+    return tryParse(args).get();
+  }
+
+  /** @param args command line arguments
+   * @return the outcome of extracting the arguments into a new instance,
+   *         including all errors which were found */
+  @NotNull public Result<T> tryParse(@NotNull final String... args) {
+    @NotNull final T $ = instance();
+    @Nullable final Instrumentation i = Instrumentation.of(Introspector.listeners());
+    try {
+      return tryParse($, args, i);
+    } finally {
+      if (i != null)
+        i.done(new Object[] { $ });
+    }
+  }
+
+  @NotNull private Result<T> tryParse(@NotNull final T $, @NotNull final String[] args, @Nullable final Instrumentation i) {
+    @NotNull final Tokens ts = new Tokens(args);
+    @NotNull final List<RuntimeException> errors = new ArrayList<>();
+    @NotNull final Map<String, Object> statics = new LinkedHashMap<>();
+    if (i != null)
+      i.enter(Phase.DISCOVERY);
+    @NotNull final OptionSchema schema = OptionSchema.of(type);
+    extract($, schema.properties, ts, errors, statics, i);
+    extract($, schema.fields, ts, errors, statics, i);
+    @NotNull final List<String> residue = Collections.unmodifiableList(ts.residue());
+    for (@NotNull final String ¢ : residue)
+      if (¢.startsWith(Introspector.Argument.PREFIX))
+        error(errors, i, null, ¢, new UnrecognizedOption(¢));
+    if (i != null)
+      i.enter(Phase.RESIDUE);
+    for (@NotNull final Residue ¢ : schema.residues)
+      if (!¢.isStatic())
+        try {
+          ¢.set($, residue);
+        } catch (@NotNull final Introspector.Error e) {
+          error(errors, i, $, ¢.name, e);
+        }
+    return new Result<>($, residue, errors, statics);
+  }
+
+  private static void extract(final Object target, @NotNull final List<Mutator> ms, @NotNull final Tokens ts,
+      @NotNull final List<RuntimeException> errors, @NotNull final Map<String, Object> statics, @Nullable final Instrumentation i) {
+    for (@NotNull final Mutator ¢ : ms)
+      try {
+        if (i != null)
+          i.enter(Phase.MATCHING);
+        @Nullable final String value = ¢.argument.extractValue(ts);
+        if (!¢.isStatic()) {
+          if (i == null)
+            ¢.set(target, value);
+          else
+            i.set(target, ¢, value);
+        } else if (value != null)
+          statics.put(¢.argument.name, i == null ? ¢.argument.asObject(value) : i.convert(¢, value));
+      } catch (@NotNull final Introspector.Error e) {
+        error(errors, i, target, ¢.argument.name, e);
+      }
+  }
+
+  private static void error(@NotNull final List<RuntimeException> errors, @Nullable final Instrumentation i, @Nullable final Object target,
+      @NotNull final String option, @NotNull final RuntimeException e) {
+    errors.add(e);
+    if (i != null)
+      i.failed(target, option, e);
+  }
+
+  /** Parse many command lines, spread over the threads of the common
+   * {@link ForkJoinPool}
+   * @param argss command lines
+   * @return the outcome of parsing each of these, in order */
+  @NotNull public List<Result<T>> parseAll(@NotNull final List<String[]> argss) {
+    return argss.parallelStream().map(this::tryParse).collect(Collectors.toList());
+  }
+
+  /** Parse many command lines, spread over the threads of a given
+   * {@link ForkJoinPool}, each by a task of its own which is submitted to it
+   * @param argss command lines
+   * @param p where parsing takes place
+   * @return the outcome of parsing each of these, in order */
+  @NotNull public List<Result<T>> parseAll(@NotNull final List<String[]> argss, @NotNull final ForkJoinPool p) {
+    @NotNull final List<ForkJoinTask<Result<T>>> tasks = new ArrayList<>(argss.size());
+    for (@NotNull final String[] ¢ : argss)
+      tasks.add(p.submit(() -> tryParse(¢)));
+    @NotNull final List<Result<T>> $ = new ArrayList<>(tasks.size());
+    for (@NotNull final ForkJoinTask<Result<T>> ¢ : tasks)
+      $.add(¢.join());
+    return $;
+  }
+
+  @NotNull private T instance() {
+    try {
+      return type.cast(constructor.invokeExact());
+    } catch (@NotNull final RuntimeException | Error ¢) {
+      throw ¢;
+    } catch (@NotNull final Throwable ¢) {
+      throw new NotInstantiable(type, ¢);
+    }
+  }
+
+  /** The outcome of parsing a single command line. Instances are immutable,
+   * except for the parsed object itself. */
+  public static final class Result<T> {
+    @NotNull private final T value;
+    @NotNull private final List<String> residue;
+    @NotNull private final List<RuntimeException> errors;
+    @NotNull private final Map<String, Object> statics;
+
+    Result(@NotNull final T value, @NotNull final List<String> residue, @NotNull final List<RuntimeException> errors,
+        @NotNull final Map<String, Object> statics) {
+      this.value = value;
+      this.residue = residue;
+      this.errors = Collections.unmodifiableList(errors);
+      this.statics = Collections.unmodifiableMap(statics);
+    }
+
+    /** @return the parsed object, into which the options that were found
+     *         were extracted, even if there were errors */
+    @NotNull public T value() {
+      return value;
+    }
+
+    /** @return the arguments which were not consumed */
+    @NotNull public List<String> residue() {
+      return residue;
+    }
+
+    /** @return the errors found, in the order in which
+     *         {@link Introspector#extract(String[], Object...)} would have
+     *         found them */
+    @NotNull public List<RuntimeException> errors() {
+      return errors;
+    }
+
+    /** @return the converted values of the <code><b>static</b></code> options
+     *         which were found, by option name */
+    @NotNull public Map<String, Object> statics() {
+      return statics;
+    }
+
+    public boolean ok() {
+      return errors.isEmpty();
+    }
+
+    /** @return the parsed object
+     * @throws RuntimeException the first of the errors, if there were any */
+    @NotNull public T get() {
+      if (!ok())
+        throw errors.get(0);
+      return value;
+    }
+  }
+}
@@ -0,0 +1,400 @@
+package il.org.spartan.external;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import il.org.spartan.external.External.Introspector;
+import il.org.spartan.external.OptionSchema.Mutator;
+import il.org.spartan.external.ParseListener.Phase;
+
+/** Binds the {@link External} members of targets to a properties file, and
+ * keeps them up to date as the file changes. The file is watched by a
+ * {@link WatchService}; on every change, it is scanned again, and its values
+ * are compared, key by key, with these found by the last reload which was
+ * applied. Only options whose keys changed are looked up, and only those whose
+ * values changed are converted, by the same rules as in
+ * {@link Introspector#extract(java.util.Properties, Object...)}; an option
+ * which was removed from the file keeps its current value.
+ * <p>
+ * Changes are applied all or nothing: if any of the changed values cannot be
+ * converted, none is applied, and the {@link Listener}s are told why. If
+ * writing a member fails, members written before it by the same reload are
+ * restored to the values last applied to them; a member which no reload
+ * applied a value to yet is restored to the value read from it, and is not
+ * restored if it cannot be read, e.g., a property without a getter. Listeners
+ * are told of every member which could not be restored. Listeners are
+ * notified of the changes only after all were applied.
+ * <p>
+ * Reloads are serialized by the lock of the binding, which is held while the
+ * members are written and while the listeners are notified, so listeners are
+ * notified of reloads in the order these were applied. Members are written one
+ * by one, by plain writes; a thread other than the reloading one may hence
+ * observe some of the changes of a reload and not others. Threads which need
+ * a consistent view of several options should read them while holding the
+ * lock of the binding, or from a {@link Listener}.
+ * <p>
+ * Loading the file, and each reload, are measured, and reported to the
+ * {@link ParseListener}s installed by
+ * {@link Introspector#addListener(ParseListener)}, as extractions into the
+ * targets of the binding.
+ * <p>
+ * A reload which fails, e.g., since a {@link Listener} threw an exception, is
+ * reported to the uncaught exception handler of the thread which watches the
+ * file, which then goes on watching it.
+ * @since 2026-10-16 */
+public final class PropertiesBinding implements Closeable {
+  @NotNull private final Path file;
+  @NotNull private final Object[] targets;
+  /** The option members of the targets, in the order of the targets */
+  @NotNull private final List<Member> members = new ArrayList<>();
+  /** The option members of the targets, by the names and the aliases of their
+   * options */
+  @NotNull private final Map<String, List<Member>> byKey = new HashMap<>();
+  @NotNull private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+  /** The values found in the file by the last reload which was applied, by
+   * their keys, or <code><b>null</b></code> if none was */
+  @Nullable private Map<String, String> scanned;
+  @Nullable private volatile WatchService watcher;
+
+  private PropertiesBinding(@NotNull final Path file, @NotNull final Object[] targets, @Nullable final Instrumentation i) {
+    this.file = file.toAbsolutePath();
+    this.targets = targets;
+    for (final Object target : targets) {
+      @NotNull final OptionSchema s = i == null ? Introspector.schema(target) : i.schema(target);
+      for (@NotNull final List<Mutator> ms : Arrays.asList(s.fields, s.properties))
+        for (@NotNull final Mutator ¢ : ms) {
+          @NotNull final Member m = new Member(members.size(), target, ¢);
+          members.add(m);
+          byKey.computeIfAbsent(¢.argument.name, λ -> new ArrayList<>()).add(m);
+          if (¢.argument.alias != null)
+            byKey.computeIfAbsent(¢.argument.alias, λ -> new ArrayList<>()).add(m);
+        }
+    }
+  }
+
+  /** Extract the options in a properties file into given targets, and watch
+   * the file for changes.
+   * @param file a file in the format of {@link java.util.Properties} files,
+   *        in the ISO 8859-1 encoding
+   * @param targets An array of items, each being an instance or a class
+   *        object, in which {@link External} specifications are to be found.
+   * @return a binding, which should be closed when no longer needed
+   * @throws IOException if the file could not be read or watched
+   * @throws Introspector.Argument.ParsingError in case the file could not be
+   *         parsed successfully; the first of the errors is thrown
+   * @throws Introspector.Argument.ReflectionError in case an extracted value
+   *         could not be injected into its target */
+  @NotNull public static PropertiesBinding bind(@NotNull final Path file, @NotNull final Object... targets) throws IOException {
+    @NotNull final PropertiesBinding $ = load(file, targets);
+    $.watch();
+    return $;
+  }
+
+  /** As {@link #bind(Path, Object...)}, except that the file is not watched;
+   * changes in it are applied only by {@link #reload()}.
+   * @param file a file in the format of {@link java.util.Properties} files,
+   *        in the ISO 8859-1 encoding
+   * @param targets An array of items, each being an instance or a class
+   *        object, in which {@link External} specifications are to be found.
+   * @return a binding */
+  @NotNull public static PropertiesBinding load(@NotNull final Path file, @NotNull final Object... targets) {
+    @Nullable final Instrumentation i = Instrumentation.of(Introspector.listeners());
+    final PropertiesBinding $;
+    @NotNull final List<RuntimeException> errors;
+    try {
+      $ = new PropertiesBinding(file, targets, i);
+      errors = $.load(new ArrayList<>(), i);
+    } finally {
+      if (i != null)
+        i.done(targets);
+    }
+    if (!errors.isEmpty())
+      throw errors.get(0);
+    return $;
+  }
+
+  public void addListener(@NotNull final Listener ¢) {
+    listeners.add(¢);
+  }
+
+  public void removeListener(@NotNull final Listener ¢) {
+    listeners.remove(¢);
+  }
+
+  /** @return a copy of the values of the options of the targets, as last
+   *         applied, by option name, whether found under this name or under
+   *         its alias; of several members with the same option name, the
+   *         value of the last one to which a value was applied is returned */
+  @NotNull public synchronized Map<String, String> applied() {
+    @NotNull final Map<String, String> $ = new HashMap<>();
+    for (@NotNull final Member ¢ : members)
+      if (¢.applied != null)
+        $.put(¢.mutator.argument.name, ¢.applied);
+    return Collections.unmodifiableMap($);
+  }
+
+  /** Read the file again, and apply the changes in it; this is what happens
+   * whenever the file changes, but may also be invoked directly.
+   * @return whether the changes were applied; if not, the {@link Listener}s
+   *         were told why */
+  public synchronized boolean reload() {
+    @NotNull final List<Change> changes = new ArrayList<>();
+    @Nullable final Instrumentation i = Instrumentation.of(Introspector.listeners());
+    @NotNull final List<RuntimeException> $;
+    try {
+      $ = load(changes, i);
+    } finally {
+      if (i != null)
+        i.done(targets);
+    }
+    for (@NotNull final Listener l : listeners)
+      if (!$.isEmpty())
+        l.rejected(Collections.unmodifiableList($));
+      else
+        for (@NotNull final Change ¢ : changes)
+          l.changed(¢);
+    return $.isEmpty();
+  }
+
+  /** @param changes receives the changes which were applied
+   * @param i the instrumentation of this reload, or <code><b>null</b></code>
+   *        if there are no {@link ParseListener}s
+   * @return the errors which prevented applying changes, if any */
+  @NotNull private synchronized List<RuntimeException> load(@NotNull final List<Change> changes, @Nullable final Instrumentation i) {
+    @NotNull final Map<String, String> values = new HashMap<>();
+    @NotNull final List<RuntimeException> $ = new ArrayList<>();
+    if (i != null)
+      i.enter(Phase.MATCHING);
+    try (Reader r = Files.newBufferedReader(file, StandardCharsets.ISO_8859_1)) {
+      KeyValues.scan(r, byKey::containsKey, values::put);
+    } catch (@NotNull final IOException ¢) {
+      error($, i, null, file + "", new UncheckedIOException(¢));
+      return $;
+    } catch (@NotNull final IllegalArgumentException ¢) {
+      error($, i, null, file + "", ¢);
+      return $;
+    }
+    @NotNull final List<Change> cs = changes(values, $, i);
+    if ($.isEmpty())
+      assign(cs, $, i);
+    if (!$.isEmpty())
+      return $;
+    scanned = values;
+    // Options removed from the file keep their values
+    for (@NotNull final Change ¢ : cs) {
+      ¢.member.applied = ¢.after;
+      ¢.member.value = ¢.value;
+    }
+    changes.addAll(cs);
+    return $;
+  }
+
+  /** @return the changes from the last applied values to given values, where
+   *         the new values are already converted */
+  @NotNull private List<Change> changes(@NotNull final Map<String, String> values, @NotNull final List<RuntimeException> errors,
+      @Nullable final Instrumentation i) {
+    @NotNull final List<Change> $ = new ArrayList<>();
+    @NotNull final BitSet affected = affected(values);
+    for (int ¢ = affected.nextSetBit(0); ¢ >= 0; ¢ = affected.nextSetBit(¢ + 1)) {
+      @NotNull final Member m = members.get(¢);
+      try {
+        if (i != null)
+          i.enter(Phase.MATCHING);
+        @Nullable final String after = m.mutator.argument.extractValue(values::get);
+        if (after != null && !after.equals(m.applied))
+          $.add(new Change(m, after, i == null ? m.mutator.argument.asObject(after) : i.convert(m.mutator, after)));
+      } catch (@NotNull final RuntimeException e) {
+        error(errors, i, m.target, m.mutator.argument.name, e);
+      }
+    }
+    return $;
+  }
+
+  /** @return the indices of the members whose options may have changed, i.e.,
+   *         of all members if no reload was applied yet, and otherwise of these
+   *         whose name or alias was added to the file, removed from it, or
+   *         found with a different value */
+  @NotNull private BitSet affected(@NotNull final Map<String, String> values) {
+    @NotNull final BitSet $ = new BitSet(members.size());
+    @Nullable final Map<String, String> previous = scanned;
+    if (previous == null) {
+      $.set(0, members.size());
+      return $;
+    }
+    for (@NotNull final Map.Entry<String, String> ¢ : values.entrySet())
+      if (!¢.getValue().equals(previous.get(¢.getKey())))
+        affect($, ¢.getKey());
+    for (@NotNull final String ¢ : previous.keySet())
+      if (!values.containsKey(¢))
+        affect($, ¢);
+    return $;
+  }
+
+  private void affect(@NotNull final BitSet $, @NotNull final String key) {
+    for (@NotNull final Member ¢ : byKey.get(key))
+      $.set(¢.index);
+  }
+
+  private static void assign(@NotNull final List<Change> cs, @NotNull final List<RuntimeException> errors, @Nullable final Instrumentation i) {
+    if (i != null)
+      i.enter(Phase.INJECTION);
+    @NotNull final Object[] previous = new Object[cs.size()];
+    @NotNull final BitSet unknown = new BitSet(cs.size());
+    int n = 0;
+    try {
+      for (; n < cs.size(); ++n) {
+        @NotNull final Member m = cs.get(n).member;
+        if (m.applied != null)
+          previous[n] = m.value;
+        else if (m.mutator.isReadable())
+          previous[n] = m.mutator.get(m.target);
+        else
+          unknown.set(n);
+        m.mutator.assign(m.target, cs.get(n).value);
+      }
+    } catch (@NotNull final RuntimeException ¢) {
+      error(errors, i, cs.get(n).target, cs.get(n).option, ¢);
+      for (--n; n >= 0; --n) {
+        @NotNull final Change c = cs.get(n);
+        if (unknown.get(n)) {
+          error(errors, i, c.target, c.option, new IllegalStateException(c.option + ": previous value cannot be read, and was not restored"));
+          continue;
+        }
+        try {
+          c.member.mutator.assign(c.target, previous[n]);
+        } catch (@NotNull final RuntimeException e) {
+          error(errors, i, c.target, c.option, e);
+        }
+      }
+    }
+  }
+
+  private static void error(@NotNull final List<RuntimeException> errors, @Nullable final Instrumentation i, @Nullable final Object target,
+      @NotNull final String option, @NotNull final RuntimeException e) {
+    errors.add(e);
+    if (i != null)
+      i.failed(target, option, e);
+  }
+
+  private void watch() throws IOException {
+    @NotNull final WatchService $ = watcher = file.getFileSystem().newWatchService();
+    file.getParent().register($, ENTRY_CREATE, ENTRY_MODIFY);
+    @NotNull final Thread t = new Thread(() -> watch($), "PropertiesBinding " + file);
+    t.setDaemon(true);
+    t.start();
+  }
+
+  private void watch(@NotNull final WatchService s) {
+    try {
+      for (;;) {
+        @NotNull final WatchKey k = s.take();
+        boolean changed = false;
+        // Events which were lost may have been of the file
+        for (@NotNull final WatchEvent<?> ¢ : k.pollEvents())
+          changed |= ¢.kind() == OVERFLOW || file.getFileName().equals(¢.context());
+        if (changed)
+          try {
+            reload();
+          } catch (@NotNull final RuntimeException ¢) {
+            @NotNull final Thread t = Thread.currentThread();
+            t.getUncaughtExceptionHandler().uncaughtException(t, ¢);
+          }
+        k.reset();
+      }
+    } catch (@NotNull final InterruptedException | ClosedWatchServiceException ____) {
+      // Binding was closed
+    }
+  }
+
+  /** Stop watching the file; the targets keep their values */
+  @Override public void close() throws IOException {
+    @Nullable final WatchService $ = watcher;
+    if ($ != null)
+      $.close();
+  }
+
+  /** Notified of changes applied to the targets of a
+   * {@link PropertiesBinding}, on the thread which reloaded the file, while it
+   * holds the lock of the binding; this is the thread which watches the file,
+   * unless {@link #reload()} was invoked directly */
+  @FunctionalInterface public interface Listener {
+    void changed(@NotNull Change c);
+
+    /** @param errors why the changes in the file were not applied */
+    default void rejected(@NotNull final List<RuntimeException> errors) {
+      // Ignored by default
+    }
+  }
+
+  /** An option member of one of the targets */
+  private static final class Member {
+    /** The position of this member among the members of all targets */
+    final int index;
+    final Object target;
+    @NotNull final Mutator mutator;
+    /** The text of the value last applied to this member, or
+     * <code><b>null</b></code> if none was */
+    @Nullable String applied;
+    /** The value last applied to this member, as converted */
+    @Nullable Object value;
+
+    Member(final int index, final Object target, @NotNull final Mutator mutator) {
+      this.index = index;
+      this.target = target;
+      this.mutator = mutator;
+    }
+  }
+
+  /** A change in the value of an option */
+  public static final class Change {
+    /** The instance or class object whose member changed */
+    public final Object target;
+    /** The option name */
+    @NotNull public final String option;
+    /** The text of the previous value, <code><b>null</b></code> if there was
+     * none */
+    @Nullable public final String before;
+    /** The text of the new value */
+    @NotNull public final String after;
+    /** The new value, as converted */
+    public final Object value;
+    @NotNull final Member member;
+
+    Change(@NotNull final Member member, @NotNull final String after, final Object value) {
+      this.member = member;
+      target = member.target;
+      option = member.mutator.argument.name;
+      before = member.applied;
+      this.after = after;
+      this.value = value;
+    }
+
+    @Override public String toString() {
+      return option + ": " + before + " -> " + after;
+    }
+  }
+}
@@ -0,0 +1,115 @@
+package il.org.spartan.external;
+
+import static il.org.spartan.external.External.Introspector.Argument.PREFIX;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/** The command line arguments, as seen by the options extracted from them.
+ * Arguments are indexed in a single pass, by the option name they spell (if
+ * any); extracting an option then marks its position, and that of its value,
+ * as consumed, rather than removing these from the list. The residue, i.e.,
+ * the arguments that were not consumed, is computed in one final compaction
+ * step.
+ * <p>
+ * An option is always matched against the first of its unconsumed
+ * occurrences, and its value is the first unconsumed argument following that
+ * occurrence, exactly as if consumed arguments were removed one by one.
+ * @since 2026-10-16 */
+final class Tokens {
+  @NotNull private final String[] arguments;
+  @NotNull private final boolean[] consumed;
+  @NotNull private final Map<String, Occurrences> index = new HashMap<>();
+  private int remaining;
+
+  Tokens(@NotNull final List<String> arguments) {
+    this(arguments.toArray(new String[arguments.size()]));
+  }
+
+  Tokens(@NotNull final String[] arguments) {
+    this.arguments = arguments;
+    consumed = new boolean[arguments.length];
+    remaining = arguments.length;
+    for (int ¢ = 0; ¢ < arguments.length; ++¢)
+      if (arguments[¢].startsWith(PREFIX))
+        index.computeIfAbsent(arguments[¢].substring(PREFIX.length()), λ -> new Occurrences()).add(¢);
+  }
+
+  /** @param name an option name
+   * @param alias an alternative name of this option, or
+   *        <code><b>null</b></code>
+   * @return the position of the first unconsumed occurrence of the option, or
+   *         -1 if there is none */
+  int find(@NotNull final String name, @Nullable final String alias) {
+    final int $ = first(name);
+    if (alias == null)
+      return $;
+    final int other = first(alias);
+    return $ < 0 ? other : other < 0 ? $ : Math.min($, other);
+  }
+
+  /** @param position a position in the arguments
+   * @return the position of the first unconsumed argument after the
+   *         parameter, or -1 if there is none */
+  int next(final int position) {
+    for (int $ = position + 1; $ < arguments.length; ++$)
+      if (!consumed[$])
+        return $;
+    return -1;
+  }
+
+  @NotNull String get(final int position) {
+    return arguments[position];
+  }
+
+  void consume(final int position) {
+    if (consumed[position])
+      return;
+    consumed[position] = true;
+    --remaining;
+  }
+
+  /** @return the arguments which were not consumed, in their original
+   *         order */
+  @NotNull List<String> residue() {
+    if (remaining == arguments.length)
+      return new ArrayList<>(Arrays.asList(arguments));
+    @NotNull final List<String> $ = new ArrayList<>(remaining);
+    for (int ¢ = 0; ¢ < arguments.length; ++¢)
+      if (!consumed[¢])
+        $.add(arguments[¢]);
+    return $;
+  }
+
+  private int first(@NotNull final String option) {
+    @Nullable final Occurrences $ = index.get(option);
+    return $ == null ? -1 : $.first();
+  }
+
+  /** The positions at which an option name occurs, in ascending order. Since
+   * positions are consumed but never restored, the first unconsumed one is
+   * found by advancing a cursor, at an amortized constant cost. */
+  private final class Occurrences {
+    private int[] positions = new int[1];
+    private int size;
+    private int cursor;
+
+    void add(final int position) {
+      if (size == positions.length)
+        positions = Arrays.copyOf(positions, 2 * size);
+      positions[size++] = position;
+    }
+
+    int first() {
+      while (cursor < size && consumed[positions[cursor]])
+        ++cursor;
+      return cursor < size ? positions[cursor] : -1;
+    }
+  }
+}
@@ -15,26 +15,51 @@ import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.IsNot.not;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.security.Permission;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 import org.hamcrest.BaseMatcher;
 import org.hamcrest.Description;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
 
 import il.org.spartan.external.External.Introspector;
+import il.org.spartan.external.External.Introspector.ArgumentFileUnreadable;
 import il.org.spartan.external.External.Introspector.Argument.ConstructorWithSingleStringArgumentMissing;
 import il.org.spartan.external.External.Introspector.Argument.DuplicateOption;
 import il.org.spartan.external.External.Introspector.Argument.FieldConversionError;
@@ -46,6 +71,8 @@ import il.org.spartan.external.External.Introspector.Argument.NumericParsingErro
 import il.org.spartan.external.External.Introspector.Argument.RequiredOption;
 import il.org.spartan.external.External.Introspector.Argument.WrongTarget;
 import il.org.spartan.external.External.Introspector.NonArray;
+import il.org.spartan.external.External.Introspector.NonSingleResidue;
+import il.org.spartan.external.External.Introspector.NotInstantiable;
 import il.org.spartan.external.External.Introspector.UnrecognizedOption;
 
 /** @author: Sam Pullara.
@@ -484,6 +511,559 @@ public class Tester extends Generator {
     assertEquals("dave", ____.strings[1]);
   }
 
+  @Test public void propertiesFromReader() throws IOException {
+    @NotNull final TestCommand ____ = new TestCommand();
+    extract(new StringReader("# comment\ninput = input\\\n   file\no: outputfile\nunknown=x\nsomeoption\nm 10\nvalues=1:2:3\n"), ____);
+    assertEquals("inputfile", ____.inputFilename);
+    assertEquals(new File("outputfile"), ____.outputFile);
+    assert ____.someoption;
+    assertEquals(10, ____.minimum.intValue());
+    assertEquals(2, ____.values[1].intValue());
+  }
+
+  @Test public void keyValuesAsProperties() throws IOException {
+    @NotNull final String text = "a=1\n  ! comment\nb\\ c : 2 \\\n\t 3\r\nd\\=e\\u0041\\t=\\\\\n#x=y\ne f\ng\n\\#h=i\na=last";
+    @NotNull final Properties expected = new Properties();
+    expected.load(new StringReader(text));
+    @NotNull final Map<String, String> $ = new HashMap<>();
+    KeyValues.scan(new StringReader(text), λ -> true, $::put);
+    assertEquals(expected, $);
+  }
+
+  @Test public void expandArgumentFiles() throws IOException {
+    @NotNull final Path p = Files.createTempFile("arguments", ".txt");
+    try {
+      Files.write(p, "-option 5 'a b'\n# a comment\n  \"x\"y\n".getBytes(StandardCharsets.UTF_8));
+      assertEquals("[-first, -option, 5, a b, xy, @last]", Arrays.toString(Introspector.expand("-first", "@" + p, "@@last")));
+    } finally {
+      Files.delete(p);
+    }
+  }
+
+  @Test(expected = ArgumentFileUnreadable.class) public void missingArgumentFile() {
+    Introspector.expand("@/no/such/file");
+  }
+
+  @Test public void argumentFileUnbalancedQuote() throws IOException {
+    @NotNull final Path p = Files.createTempFile("arguments", ".txt");
+    try {
+      Files.write(p, "-option 'a b\n-other 1\n".getBytes(StandardCharsets.UTF_8));
+      Introspector.expand("@" + p);
+      fail();
+    } catch (@NotNull final ArgumentFileUnreadable ¢) {
+      assertTrue(¢.getCause() instanceof IllegalArgumentException);
+    } finally {
+      Files.delete(p);
+    }
+  }
+
+  @Test public void argumentFileDecodedInChunks() throws IOException {
+    @NotNull final Path p = Files.createTempFile("arguments", ".txt");
+    @NotNull final StringBuilder b = new StringBuilder();
+    for (int ¢ = 0; ¢ < 30000; ++¢)
+      b.append(¢ % 2 == 0 ? 'א' : 'b');
+    try {
+      Files.write(p, ("# comment\n\"" + b + "\" x\n").getBytes(StandardCharsets.UTF_8));
+      @NotNull final String[] $ = Introspector.expand("@" + p);
+      assertEquals(2, $.length);
+      assertEquals(b + "", $[0]);
+      assertEquals("x", $[1]);
+    } finally {
+      Files.delete(p);
+    }
+  }
+
+  @Test public void residueViews() {
+    class ____ {
+      @External int option;
+      @External.Residue Iterator<String> iterator;
+      @External.Residue Stream<String> stream;
+    }
+    @NotNull final ____ ____ = new ____();
+    extract(args("a", "-option", "1", "b"), ____);
+    assertEquals("a", ____.iterator.next());
+    assertEquals("b", ____.iterator.next());
+    assertEquals("[a, b]", ____.stream.collect(Collectors.toList()) + "");
+  }
+
+  @Test public void residuePath() {
+    class ____ {
+      @External.Residue Path path;
+    }
+    @NotNull final ____ ____ = new ____();
+    extract(args("dir/file"), ____);
+    assertEquals(Paths.get("dir", "file"), ____.path);
+    extract(args(), ____);
+    assertNull(____.path);
+  }
+
+  @Test(expected = NonSingleResidue.class) public void residuePathOfMany() {
+    extract(args("a", "b"), new Object() {
+      @External.Residue Path path;
+    });
+  }
+
+  static class ParsedCommand {
+    @External(alias = "n") int count = 1;
+    @External static String shared = "untouched";
+    @External.Residue String[] rest;
+  }
+
+  @Test public void parserMakesFreshInstances() {
+    @NotNull final Parser<ParsedCommand> p = Parser.of(ParsedCommand.class);
+    @NotNull final ParsedCommand first = p.parse("-n", "2", "a"), second = p.parse("b", "c");
+    assertEquals(2, first.count);
+    assertEquals("[a]", Arrays.toString(first.rest));
+    assertEquals(1, second.count);
+    assertEquals("[b, c]", Arrays.toString(second.rest));
+  }
+
+  @Test public void parserLeavesStaticsAlone() {
+    @NotNull final Parser.Result<ParsedCommand> $ = Parser.of(ParsedCommand.class).tryParse("-shared", "changed");
+    assert $.ok();
+    assertEquals("untouched", ParsedCommand.shared);
+    assertEquals("changed", $.statics().get("shared"));
+  }
+
+  @Test public void parserCollectsErrors() {
+    @NotNull final Parser.Result<ParsedCommand> $ = Parser.of(ParsedCommand.class).tryParse("-count", "x", "-bogus");
+    assert !$.ok();
+    assertEquals(2, $.errors().size());
+    assert $.errors().get(0) instanceof NumericParsingError;
+    assert $.errors().get(1) instanceof UnrecognizedOption;
+    assertEquals("[-bogus]", $.residue() + "");
+  }
+
+  @Test(expected = NumericParsingError.class) public void parserThrowsFirstError() {
+    Parser.of(ParsedCommand.class).parse("-count", "x");
+  }
+
+  @Test(expected = NotInstantiable.class) public void parserNeedsArgumentlessConstructor() {
+    Parser.of(Integer.class);
+  }
+
+  @Test public void parseAll() {
+    @NotNull final List<String[]> argss = new ArrayList<>();
+    for (int ¢ = 0; ¢ < 1000; ++¢)
+      argss.add(args("-count", ¢ + "", "f" + ¢));
+    @NotNull final ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      @NotNull final List<Parser.Result<ParsedCommand>> $ = Parser.of(ParsedCommand.class).parseAll(argss, pool);
+      for (int ¢ = 0; ¢ < 1000; ++¢) {
+        assertEquals(¢, $.get(¢).get().count);
+        assertEquals("[f" + ¢ + "]", $.get(¢).residue() + "");
+      }
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  static class BoundOptions {
+    @External int port = 80;
+    @External(alias = "h") String host = "localhost";
+    @External boolean verbose;
+  }
+
+  @Test public void propertiesBindingAppliesOnlyChanges() throws IOException {
+    @NotNull final Path p = Files.createTempFile("bound", ".properties");
+    @NotNull final BoundOptions o = new BoundOptions();
+    @NotNull final List<String> changes = new ArrayList<>();
+    try (PropertiesBinding b = PropertiesBinding.load(write(p, "port=8080\nh=example.org\n"), o)) {
+      assertEquals(8080, o.port);
+      assertEquals("example.org", o.host);
+      b.addListener(λ -> changes.add(λ + ""));
+      assertTrue(b.reload());
+      assertEquals("[]", changes + "");
+      write(p, "port=8080\nhost=example.com\nverbose=true\n");
+      assertTrue(b.reload());
+      assertEquals("[host: example.org -> example.com, verbose: null -> true]", changes + "");
+      assertEquals("example.com", o.host);
+      assert o.verbose;
+      write(p, "verbose=true\n");
+      assertTrue(b.reload());
+      assertEquals(8080, o.port);
+      assertEquals(2, changes.size());
+    } finally {
+      Files.delete(p);
+    }
+  }
+
+  @Test public void propertiesBindingTracksOptionsUnderAliases() throws IOException {
+    @NotNull final Path p = Files.createTempFile("bound", ".properties");
+    @NotNull final BoundOptions o = new BoundOptions();
+    @NotNull final List<String> changes = new ArrayList<>();
+    try (PropertiesBinding b = PropertiesBinding.load(write(p, "host=A\n"), o)) {
+      b.addListener(λ -> changes.add(λ + ""));
+      write(p, "h=B\n");
+      assertTrue(b.reload());
+      assertEquals("B", o.host);
+      write(p, "h=A\n");
+      assertTrue(b.reload());
+      assertEquals("A", o.host);
+      assertEquals("A", b.applied().get("host"));
+      assertEquals(null, b.applied().get("h"));
+      assertEquals("[host: A -> B, host: B -> A]", changes + "");
+    } finally {
+      Files.delete(p);
+    }
+  }
+
+  @Test public void propertiesBindingIsAllOrNothing() throws IOException {
+    @NotNull final Path p = Files.createTempFile("bound", ".properties");
+    @NotNull final BoundOptions o = new BoundOptions();
+    @NotNull final List<RuntimeException> errors = new ArrayList<>();
+    try (PropertiesBinding b = PropertiesBinding.load(write(p, "port=1\n"), o)) {
+      b.addListener(new PropertiesBinding.Listener() {
+        @Override public void changed(final PropertiesBinding.Change __) {
+          fail();
+        }
+
+        @Override public void rejected(final List<RuntimeException> ¢) {
+          errors.addAll(¢);
+        }
+      });
+      write(p, "host=elsewhere\nport=none\n");
+      assertFalse(b.reload());
+      assertEquals(1, errors.size());
+      assert errors.get(0) instanceof NumericParsingError;
+      assertEquals(1, o.port);
+      assertEquals("localhost", o.host);
+      assertEquals("1", b.applied().get("port"));
+    } finally {
+      Files.delete(p);
+    }
+  }
+
+  @Test public void propertiesBindingWatchesFile() throws IOException, InterruptedException {
+    @NotNull final Path p = Files.createTempFile("bound", ".properties");
+    @NotNull final BoundOptions o = new BoundOptions();
+    @NotNull final CountDownLatch changed = new CountDownLatch(1);
+    try (PropertiesBinding b = PropertiesBinding.bind(write(p, "port=1\n"), o)) {
+      b.addListener(λ -> changed.countDown());
+      write(p, "port=2\n");
+      assertTrue(changed.await(30, TimeUnit.SECONDS));
+      assertEquals(2, o.port);
+    } finally {
+      Files.delete(p);
+    }
+  }
+
+  static class OtherBoundOptions {
+    @External String host = "none";
+  }
+
+  @Test public void propertiesBindingTracksEachMember() throws IOException {
+    @NotNull final Path p = Files.createTempFile("bound", ".properties");
+    @NotNull final BoundOptions o = new BoundOptions();
+    @NotNull final OtherBoundOptions other = new OtherBoundOptions();
+    try (PropertiesBinding b = PropertiesBinding.load(write(p, "h=A\n"), o, other)) {
+      assertEquals("A", o.host);
+      assertEquals("none", other.host);
+      write(p, "host=A\n");
+      assertTrue(b.reload());
+      assertEquals("A", o.host);
+      assertEquals("A", other.host);
+    } finally {
+      Files.delete(p);
+    }
+  }
+
+  public static class WriteOnlyOptions {
+    int alpha;
+    int beta;
+
+    @External public void setAlpha(final int alpha) {
+      this.alpha = alpha;
+    }
+
+    @External public void setBeta(final int beta) {
+      if (beta < 0)
+        throw new IllegalArgumentException("negative");
+      this.beta = beta;
+    }
+  }
+
+  @Test public void propertiesBindingRestoresAppliedValues() throws IOException {
+    @NotNull final Path p = Files.createTempFile("bound", ".properties");
+    @NotNull final WriteOnlyOptions o = new WriteOnlyOptions();
+    try (PropertiesBinding b = PropertiesBinding.load(write(p, "alpha=1\nbeta=1\n"), o)) {
+      write(p, "alpha=2\nbeta=-1\n");
+      assertFalse(b.reload());
+      assertEquals(1, o.alpha);
+      assertEquals(1, o.beta);
+      assertEquals("1", b.applied().get("alpha"));
+    } finally {
+      Files.delete(p);
+    }
+  }
+
+  @Test public void propertiesBindingReportsUnrestoredMembers() throws IOException {
+    @NotNull final Path p = Files.createTempFile("bound", ".properties");
+    @NotNull final WriteOnlyOptions o = new WriteOnlyOptions();
+    @NotNull final List<RuntimeException> errors = new ArrayList<>();
+    try (PropertiesBinding b = PropertiesBinding.load(write(p, "beta=1\n"), o)) {
+      b.addListener(new PropertiesBinding.Listener() {
+        @Override public void changed(final PropertiesBinding.Change __) {
+          fail();
+        }
+
+        @Override public void rejected(final List<RuntimeException> ¢) {
+          errors.addAll(¢);
+        }
+      });
+      write(p, "alpha=2\nbeta=-1\n");
+      assertFalse(b.reload());
+      assertEquals(2, errors.size());
+      assert errors.get(1) instanceof IllegalStateException;
+      assertEquals(null, b.applied().get("alpha"));
+    } finally {
+      Files.delete(p);
+    }
+  }
+
+  @Test public void propertiesBindingWatchesFileAfterFailedReload() throws IOException, InterruptedException {
+    @NotNull final Path p = Files.createTempFile("bound", ".properties");
+    @NotNull final BoundOptions o = new BoundOptions();
+    @NotNull final CountDownLatch failed = new CountDownLatch(1), changed = new CountDownLatch(1);
+    @NotNull final List<Throwable> uncaught = new CopyOnWriteArrayList<>();
+    @Nullable final Thread.UncaughtExceptionHandler h = Thread.getDefaultUncaughtExceptionHandler();
+    Thread.setDefaultUncaughtExceptionHandler((__, λ) -> {
+      uncaught.add(λ);
+      failed.countDown();
+    });
+    try (PropertiesBinding b = PropertiesBinding.bind(write(p, "port=1\n"), o)) {
+      b.addListener(λ -> {
+        if (λ.after.equals("2"))
+          throw new IllegalStateException("listener failed");
+        changed.countDown();
+      });
+      write(p, "port=2\n");
+      assertTrue(failed.await(30, TimeUnit.SECONDS));
+      write(p, "port=3\n");
+      assertTrue(changed.await(30, TimeUnit.SECONDS));
+      assertEquals(3, o.port);
+      assertEquals("[java.lang.IllegalStateException: listener failed]", uncaught + "");
+    } finally {
+      Thread.setDefaultUncaughtExceptionHandler(h);
+      Files.delete(p);
+    }
+  }
+
+  static class InstrumentedOptions {
+    @External int count;
+    @External boolean verbose;
+    @External List<Integer> sizes;
+    @External.Residue String[] rest;
+  }
+
+  @Test public void listenerReceivesStatistics() {
+    @NotNull final List<ParseListener.Statistics> $ = new ArrayList<>();
+    @NotNull final ParseListener l = λ -> {
+      if (λ.targets.contains(InstrumentedOptions.class))
+        $.add(λ);
+    };
+    @NotNull final InstrumentedOptions o = new InstrumentedOptions();
+    Introspector.clearSchema(InstrumentedOptions.class);
+    Introspector.addListener(l);
+    try {
+      assertEquals("[a]", extract(new String[] { "-count", "3", "-verbose", "-sizes", "1,2", "a" }, o) + "");
+      extract(new String[] { "-count", "4" }, o);
+    } finally {
+      Introspector.removeListener(l);
+    }
+    extract(new String[] { "-count", "5" }, o);
+    assertEquals(5, o.count);
+    assert o.verbose;
+    assertEquals("[1, 2]", o.sizes + "");
+    assertEquals("[]", Arrays.toString(o.rest));
+    assertEquals(2, $.size());
+    assertEquals(3, $.get(0).matched);
+    assertEquals(3, $.get(0).converted);
+    assertEquals(0, $.get(0).errors);
+    assert $.get(0).lookups > 0;
+    assert $.get(0).nanos(ParseListener.Phase.DISCOVERY) > 0;
+    assertEquals(1, $.get(1).matched);
+    assertEquals(0, $.get(1).lookups);
+    long sum = 0;
+    for (@NotNull final ParseListener.Phase ¢ : ParseListener.Phase.values()) {
+      assert $.get(1).nanos(¢) >= 0;
+      sum += $.get(1).nanos(¢);
+    }
+    assertEquals(sum, $.get(1).nanos());
+  }
+
+  static class MixedOptions {
+    @External int n;
+    @External long big;
+    @External double ratio;
+    @External boolean flag;
+    @External String name;
+    @External int[] ns = {};
+    @External List<Integer> list;
+    @External EnumType kind;
+    @External File file;
+    int count;
+
+    @External public void setCount(final int count) {
+      this.count = count;
+    }
+
+    public int getCount() {
+      return count;
+    }
+  }
+
+  @NotNull private static String extractMixed(final boolean listening, @NotNull final String... args) {
+    @NotNull final ParseListener l = λ -> {
+      // Only the presence of a listener matters
+    };
+    if (listening)
+      Introspector.addListener(l);
+    try {
+      @NotNull final MixedOptions $ = new MixedOptions();
+      extract(args, $);
+      return Introspector.toOrderedMap($) + "";
+    } catch (@NotNull final RuntimeException ¢) {
+      return ¢.getClass().getSimpleName() + ": " + ¢.getMessage();
+    } finally {
+      Introspector.removeListener(l);
+    }
+  }
+
+  @Test public void listenerDoesNotChangeResults() {
+    @NotNull final String[][] argss = { //
+        { "-n", "12", "-big", "9000000000", "-ratio", "0.5", "-flag", "-name", "x", "-ns", "1,2", "-list", "3,4", "-kind", "EnumB", "-file", "f",
+            "-count", "7" }, //
+        { "-n", "0x10" }, //
+        { "-n", "99999999999" }, //
+        { "-ns", "1,x" }, //
+        { "-kind", "EnumZ" }, //
+        { "-count", "x" }, //
+    };
+    for (@NotNull final String[] ¢ : argss)
+      assertEquals(extractMixed(false, ¢), extractMixed(true, ¢));
+    Introspector.register(int.class, Integer::decode);
+    try {
+      assertThat(extractMixed(false, "-n", "0x10"), containsString("n=16"));
+      assertEquals(extractMixed(false, "-n", "0x10"), extractMixed(true, "-n", "0x10"));
+      assertEquals(extractMixed(false, "-count", "0x10"), extractMixed(true, "-count", "0x10"));
+    } finally {
+      Introspector.unregister(int.class);
+    }
+  }
+
+  @Test public void listenerReceivesErrors() {
+    @NotNull final List<ParseListener.Failure> failures = new ArrayList<>();
+    @NotNull final List<ParseListener.Statistics> statistics = new ArrayList<>();
+    @NotNull final ParseListener l = new ParseListener() {
+      @Override public void failed(@NotNull final Failure ¢) {
+        failures.add(¢);
+      }
+
+      @Override public void extracted(@NotNull final Statistics ¢) {
+        statistics.add(¢);
+      }
+    };
+    @NotNull final InstrumentedOptions o = new InstrumentedOptions();
+    Introspector.addListener(l);
+    try {
+      extract(new String[] { "-count", "x", "-bogus" }, o);
+      fail();
+    } catch (@NotNull final NumericParsingError ¢) {
+      assertEquals(failures.get(0).error, ¢);
+    } finally {
+      Introspector.removeListener(l);
+    }
+    assertEquals(2, failures.size());
+    assertEquals(o, failures.get(0).target);
+    assertEquals("count", failures.get(0).option);
+    assertNull(failures.get(1).target);
+    assertEquals("-bogus", failures.get(1).option);
+    assert failures.get(1).error instanceof UnrecognizedOption;
+    assertEquals(1, statistics.size());
+    assertEquals(2, statistics.get(0).errors);
+    assertEquals(0, statistics.get(0).converted);
+  }
+
+  @Test public void listenerObservesParser() {
+    @NotNull final List<String> $ = new ArrayList<>();
+    @NotNull final ParseListener l = new ParseListener() {
+      @Override public void failed(@NotNull final Failure ¢) {
+        $.add(¢.option);
+      }
+
+      @Override public void extracted(@NotNull final Statistics ¢) {
+        $.add(¢.targets + ": " + ¢.matched + "/" + ¢.converted + "/" + ¢.errors);
+      }
+    };
+    @NotNull final Parser<InstrumentedOptions> p = Parser.of(InstrumentedOptions.class);
+    Introspector.addListener(l);
+    try {
+      assertFalse(p.tryParse("-count", "3", "-bogus").ok());
+    } finally {
+      Introspector.removeListener(l);
+    }
+    assertEquals("[-bogus, [" + InstrumentedOptions.class + "]: 1/1/1]", $ + "");
+  }
+
+  @Test public void listenerObservesPropertiesBinding() throws IOException {
+    @NotNull final List<String> $ = new ArrayList<>();
+    @NotNull final ParseListener l = new ParseListener() {
+      @Override public void failed(@NotNull final Failure ¢) {
+        $.add(¢.option);
+      }
+
+      @Override public void extracted(@NotNull final Statistics ¢) {
+        $.add(¢.matched + "/" + ¢.converted + "/" + ¢.errors);
+      }
+    };
+    @NotNull final Path p = Files.createTempFile("bound", ".properties");
+    Introspector.addListener(l);
+    try (PropertiesBinding b = PropertiesBinding.load(write(p, "port=1\nh=here\n"), new BoundOptions())) {
+      write(p, "port=x\nh=here\n");
+      assertFalse(b.reload());
+    } finally {
+      Introspector.removeListener(l);
+      Files.delete(p);
+    }
+    assertEquals("[2/2/0, port, 1/0/1]", $ + "");
+  }
+
+  @Test public void listenerObservesProperties() throws IOException {
+    @NotNull final List<String> $ = new ArrayList<>();
+    @NotNull final ParseListener l = new ParseListener() {
+      @Override public void failed(@NotNull final Failure ¢) {
+        $.add(¢ + "");
+      }
+
+      @Override public void extracted(@NotNull final Statistics ¢) {
+        $.add(¢.matched + "/" + ¢.converted + "/" + ¢.errors);
+      }
+    };
+    @NotNull final InstrumentedOptions o = new InstrumentedOptions();
+    @NotNull final Properties p = new Properties();
+    p.put("count", "x");
+    Introspector.addListener(l);
+    try {
+      extract(new StringReader("count=6\nother=1\n"), o);
+      extract(p, o);
+      fail();
+    } catch (@NotNull final NumericParsingError ¢) {
+      // Reported to the listener as well
+    } finally {
+      Introspector.removeListener(l);
+    }
+    assertEquals(6, o.count);
+    assertEquals(3, $.size());
+    assertEquals("1/1/0", $.get(0));
+    assertThat($.get(1), containsString("count: "));
+    assertEquals("1/0/1", $.get(2));
+  }
+
+  @NotNull private static Path write(@NotNull final Path p, @NotNull final String content) throws IOException {
+    return Files.write(p, content.getBytes(StandardCharsets.ISO_8859_1));
+  }
+
   @Test public void propertiesViaSetter() {
     @NotNull final Object ____ = new Object() {
       @External(name = "option") public void setHashCode(final int hashCode) {
@@ -621,6 +1201,99 @@ public class Tester extends Generator {
     assertEquals(____.anotherOption, lastInt());
   }
 
+  @Test public void registeredConverter() {
+    Introspector.register(Duration.class, Duration::parse);
+    try {
+      class ____ {
+        @External Duration timeout;
+        @External Duration[] steps;
+      }
+      @NotNull final ____ ____ = new ____();
+      extract(args("-timeout", "PT5S", "-steps", "PT1S,PT2M"), ____);
+      assertEquals(Duration.ofSeconds(5), ____.timeout);
+      assertEquals(2, ____.steps.length);
+      assertEquals(Duration.ofMinutes(2), ____.steps[1]);
+    } finally {
+      Introspector.unregister(Duration.class);
+    }
+  }
+
+  @Test(expected = FieldConversionError.class) public void registeredConverterFails() {
+    Introspector.register(Duration.class, Duration::parse);
+    try {
+      extract(args("-timeout", "forever"), new Object() {
+        @External Duration timeout;
+      });
+    } finally {
+      Introspector.unregister(Duration.class);
+    }
+  }
+
+  static class Hexadecimal {
+    @External int n;
+    @External int[] ns;
+    @External IntStream stream;
+    @External String name;
+    @External String[] names;
+  }
+
+  @Test public void registeredConverterOfPrimitives() {
+    @NotNull final Parser<Hexadecimal> p = Parser.of(Hexadecimal.class);
+    Introspector.register(int.class, Integer::decode);
+    try {
+      @NotNull final Hexadecimal $ = new Hexadecimal();
+      extract(args("-n", "0x10", "-ns", "0x1,010", "-stream", "#F"), $);
+      assertEquals(16, $.n);
+      assertEquals("[1, 8]", Arrays.toString($.ns));
+      assertEquals(15, $.stream.sum());
+      assertEquals(16, p.parse("-n", "0x10").n);
+    } finally {
+      Introspector.unregister(int.class);
+    }
+    try {
+      p.parse("-n", "0x10");
+      fail();
+    } catch (@NotNull final NumericParsingError ¢) {
+      // Built in conversion is restored
+    }
+  }
+
+  @Test public void registeredConverterOfStrings() {
+    Introspector.register(String.class, String::toUpperCase);
+    try {
+      @NotNull final Hexadecimal $ = new Hexadecimal();
+      extract(args("-name", "a", "-names", "b,c"), $);
+      assertEquals("A", $.name);
+      assertEquals("[B, C]", Arrays.toString($.names));
+    } finally {
+      Introspector.unregister(String.class);
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class) public void registeredConverterOfFlags() {
+    Introspector.register(boolean.class, Boolean::valueOf);
+  }
+
+  @Test public void prebuiltSchema() {
+    Introspector.prebuild(TestCommand4.class);
+    extract(args("-input", "inputfile", "-output", "outputfile"), TestCommand4.class);
+    assertEquals("inputfile", TestCommand4.input);
+    assertEquals("outputfile", TestCommand4.output);
+  }
+
+  @Test public void clearedSchemas() {
+    class ____ {
+      @External int option = nextInt();
+    }
+    @NotNull final ____ ____ = new ____();
+    extract(args("-option", nextIntS()), ____);
+    Introspector.clearSchemas();
+    extract(args("-option", nextIntS()), ____);
+    assertEquals(lastInt(), ____.option);
+    Introspector.clearSchema(____.class);
+    assertEquals(lastInt() + "", Introspector.toOrderedMap(____).get("option"));
+  }
+
   @Test public void finalNonStaticIntegerOption() {
     class ____ {
       @External public final Integer i = Integer.valueOf(nextInt());
@@ -1094,12 +1767,145 @@ public class Tester extends Generator {
     });
   }
 
+  @Test(expected = DuplicateOption.class) public void repeatedOptionViaAlias() {
+    extract(args("-option", nextIntS(), "extra", "-o", nextIntS()), new Object() {
+      @External(alias = "o") @NotNull String option = nextIntS();
+    });
+  }
+
+  @Test public void optionValueMayLookLikeAnOption() {
+    class ____ {
+      @External String option;
+    }
+    @NotNull final ____ ____ = new ____();
+    final List<String> extra = extract(args("head", "-option", "-value", "tail"), ____);
+    assertEquals("-value", ____.option);
+    assertEquals("[head, tail]", extra + "");
+  }
+
+  @Test public void extractFromListRemovesOptions() {
+    class ____ {
+      @External int option;
+    }
+    @NotNull final List<String> arguments = new ArrayList<>(Arrays.asList("a", "-option", nextIntS(), "b"));
+    @NotNull final List<String> $ = extract(arguments, new ____());
+    assertSame(arguments, $);
+    assertEquals("[a, b]", arguments + "");
+  }
+
+  @Test public void largeResidue() {
+    class ____ {
+      @External int option;
+      @External.Residue String[] rest;
+    }
+    @NotNull final ____ ____ = new ____();
+    final int n = 50000;
+    @NotNull final String[] arguments = args(n);
+    arguments[n / 2] = "-option";
+    arguments[n / 2 + 1] = nextIntS();
+    assertEquals(n - 2, extract(arguments, ____).size());
+    assertEquals(lastInt(), ____.option);
+    assertEquals(n - 2, ____.rest.length);
+  }
+
   @Test(expected = NumericParsingError.class) public void numericError() {
     extract(args("-option", "ab" + nextInt()), new Object() {
       @External int option = nextInt();
     });
   }
 
+  @Test public void numericErrorInArrayReportsPosition() {
+    try {
+      extract(args("-is", "1,-2,x3,4"), new Object() {
+        @External int[] is;
+      });
+      fail();
+    } catch (@NotNull final NumericParsingError ¢) {
+      assertThat(¢.getMessage(), containsString("'x3' at position 5"));
+    }
+  }
+
+  @Test(expected = NumericParsingError.class) public void arrayValueOutOfRange() {
+    extract(args("-bs", "1,128"), new Object() {
+      @External byte[] bs;
+    });
+  }
+
+  @Test public void delimiterIsLiteral() {
+    class ____ {
+      @External(delimiter = "|") long[] ls;
+      @External(delimiter = ".") String[] ss;
+    }
+    @NotNull final ____ ____ = new ____();
+    extract(args("-ls", "+1|-2|" + Long.MIN_VALUE + "||", "-ss", "a.b"), ____);
+    assertEquals("[1, -2, " + Long.MIN_VALUE + "]", Arrays.toString(____.ls));
+    assertEquals("[a, b]", Arrays.toString(____.ss));
+  }
+
+  @Test public void arraysGrowPastInitialCapacity() {
+    class ____ {
+      @External int[] is;
+      @External(delimiter = "") String[] ss;
+    }
+    @NotNull final StringBuilder b = new StringBuilder();
+    for (int ¢ = 0; ¢ < 100; ++¢)
+      b.append(¢ == 0 ? "" : ",").append(¢);
+    @NotNull final ____ ____ = new ____();
+    extract(args("-is", b + ",,", "-ss", b + ""), ____);
+    assertEquals(100, ____.is.length);
+    assertEquals(99, ____.is[99]);
+    assertEquals(Arrays.toString((b + "").split("")), Arrays.toString(____.ss));
+  }
+
+  @Test public void streamsShownBySourceText() {
+    class ____ {
+      @External IntStream is;
+      @External LongStream ls = LongStream.of(1, 2);
+    }
+    @NotNull final ____ ____ = new ____();
+    assertThat(usage(____), containsString("(<LongStream>)"));
+    extract(args("-is", "1,2,3"), ____);
+    assertEquals("1,2,3", Introspector.toOrderedMap(____).get("is"));
+    assertEquals("<LongStream>", Introspector.toOrderedMap(____).get("ls"));
+    assertEquals(6, ____.is.sum());
+    assertEquals(3, ____.ls.sum());
+  }
+
+  @Test public void listAndSetOptions() {
+    class ____ {
+      @External List<Integer> is;
+      @External(delimiter = ":") Set<String> ss;
+      @External List<File> fs;
+    }
+    @NotNull final ____ ____ = new ____();
+    extract(args("-is", "3,1,3", "-ss", "b:a:b", "-fs", "x,y"), ____);
+    assertEquals(Arrays.asList(Integer.valueOf(3), Integer.valueOf(1), Integer.valueOf(3)), ____.is);
+    assertEquals("[b, a]", ____.ss + "");
+    assertEquals(new File("y"), ____.fs.get(1));
+    assertEquals("3,1,3", Introspector.toOrderedMap(____).get("is"));
+    assertThat(usage(____), containsString("-is [Integer (,Integer)*]"));
+  }
+
+  @Test public void intStreamIsParsedLazily() {
+    class ____ {
+      @External IntStream is;
+      @External LongStream ls;
+    }
+    @NotNull final ____ ____ = new ____();
+    extract(args("-is", "1,2,3", "-ls", "4,five"), ____);
+    assertEquals(6, ____.is.sum());
+    assertEquals(4, ____.ls.limit(1).sum());
+  }
+
+  @Test(expected = NumericParsingError.class) public void intStreamErrorOnConsumption() {
+    class ____ {
+      @External IntStream is;
+    }
+    @NotNull final ____ ____ = new ____();
+    extract(args("-is", ",1"), ____);
+    ____.is.sum();
+  }
+
   @Test(expected = WrongTarget.class) public void instanceDataMemberThroughClassObject() {
     class LocalClass {
       @External private final int n = 0;